@@ -16,6 +16,10 @@
 
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.NumberOutput;
+
+import java.io.IOException;
 import java.math.BigDecimal;
 
 /**
@@ -26,10 +30,17 @@ import java.math.BigDecimal;
  */
 public final class DecimalUtils
 {
-    private static final char[] ZEROES = new char[] {'0', '0', '0', '0', '0', '0', '0', '0', '0'};
+    /**
+     * The longest text {@link #toDecimal(long, int)} can produce: a sign, 19 digits, the point and 9 more digits.
+     */
+    public static final int MAX_DECIMAL_LENGTH = 30;
 
     private static final BigDecimal ONE_BILLION = new BigDecimal(1_000_000_000L);
 
+    private static final int[] POWERS_OF_TEN = new int[] {
+            1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000
+    };
+
     private DecimalUtils()
     {
         throw new RuntimeException("DecimalUtils cannot be instantiated.");
@@ -37,14 +48,204 @@ public final class DecimalUtils
 
     public static String toDecimal(long seconds, int nanoseconds)
     {
-        StringBuilder string = new StringBuilder(Integer.toString(nanoseconds));
-        if(string.length() < 9)
-            string.insert(0, ZEROES, 0, 9 - string.length());
-        return seconds + "." + string;
+        char[] buffer = new char[MAX_DECIMAL_LENGTH];
+        return new String(buffer, 0, toDecimal(seconds, nanoseconds, buffer, 0));
+    }
+
+    /**
+     * Formats the same text as {@link #toDecimal(long, int)} into {@code buffer}, which must have room for
+     * {@link #MAX_DECIMAL_LENGTH} characters after {@code offset}. Negative values with a fraction are written
+     * exactly, so {@code -1} second and {@code 1} nanosecond is {@code -0.999999999}.
+     *
+     * @return the offset just past the last character written.
+     */
+    public static int toDecimal(long seconds, int nanoseconds, char[] buffer, int offset)
+    {
+        if(seconds < 0 && nanoseconds > 0)
+        {
+            // the fraction of a negative decimal counts away from zero too
+            buffer[offset++] = '-';
+            seconds = -(seconds + 1);
+            nanoseconds = 1_000_000_000 - nanoseconds;
+        }
+        offset = NumberOutput.outputLong(seconds, buffer, offset);
+        buffer[offset++] = '.';
+        for(int i = offset + 8; i >= offset; i--)
+        {
+            buffer[i] = (char) ('0' + nanoseconds % 10);
+            nanoseconds /= 10;
+        }
+        return offset + 9;
+    }
+
+    /**
+     * Formats the shortest decimal that {@link #extractDecimal(char[], int, int)} reads back as the same amount of
+     * time: the exact signed value without trailing zeros, so {@code -1} second and {@code 500000000} nanoseconds is
+     * {@code -0.5}. Whole seconds keep one fraction digit, like {@code 15.0}, so that they still read as a decimal and
+     * not as an integer timestamp. The buffer must have room for {@link #MAX_DECIMAL_LENGTH} characters after
+     * {@code offset}.
+     *
+     * @return the offset just past the last character written.
+     *
+     * @since 2.3.3
+     */
+    public static int toShortestDecimal(long seconds, int nanoseconds, char[] buffer, int offset)
+    {
+        if(nanoseconds == 0)
+        {
+            offset = NumberOutput.outputLong(seconds, buffer, offset);
+            buffer[offset++] = '.';
+            buffer[offset++] = '0';
+            return offset;
+        }
+
+        if(seconds < 0)
+        {
+            buffer[offset++] = '-';
+            seconds = -(seconds + 1);
+            nanoseconds = 1_000_000_000 - nanoseconds;
+        }
+        offset = NumberOutput.outputLong(seconds, buffer, offset);
+        buffer[offset++] = '.';
+        int digits = 9;
+        while(nanoseconds % 10 == 0)
+        {
+            nanoseconds /= 10;
+            digits--;
+        }
+        for(int i = offset + digits - 1; i >= offset; i--)
+        {
+            buffer[i] = (char) ('0' + nanoseconds % 10);
+            nanoseconds /= 10;
+        }
+        return offset + digits;
     }
 
     public static int extractNanosecondDecimal(BigDecimal value, long integer)
     {
         return value.subtract(new BigDecimal(integer)).multiply(ONE_BILLION).intValue();
     }
+
+    /**
+     * Reads the current {@link com.fasterxml.jackson.core.JsonToken#VALUE_NUMBER_FLOAT} token of {@code parser} as
+     * whole seconds and nanoseconds, from the token's characters where {@link #extractDecimal(char[], int, int)} can,
+     * and through {@link BigDecimal} otherwise.
+     *
+     * @since 2.3.3
+     */
+    public static SecondsAndNanoseconds extractDecimal(JsonParser parser) throws IOException
+    {
+        char[] buffer = parser.getTextCharacters();
+        int start = parser.getTextOffset();
+        SecondsAndNanoseconds value = extractDecimal(buffer, start, start + parser.getTextLength());
+        if(value == null)
+        {
+            BigDecimal decimal = parser.getDecimalValue();
+            long seconds = decimal.longValue();
+            value = new SecondsAndNanoseconds(seconds, extractNanosecondDecimal(decimal, seconds));
+        }
+        return value;
+    }
+
+    /**
+     * Reads a decimal number in textual form, such as the characters of a
+     * {@link com.fasterxml.jackson.core.JsonToken#VALUE_NUMBER_FLOAT} token, in a single pass, with the same truncation
+     * toward zero as {@link BigDecimal#longValue()} and {@link #extractNanosecondDecimal(BigDecimal, long)}. Exponent
+     * notation is supported.
+     *
+     * @return the seconds and nanoseconds, or {@code null} if the text is not a plain decimal number or the whole
+     * seconds would not fit in a {@code long}; callers should then fall back to {@link BigDecimal}.
+     *
+     * @since 2.3.3
+     */
+    public static SecondsAndNanoseconds extractDecimal(char[] buffer, int start, int end)
+    {
+        boolean negative = start < end && buffer[start] == '-';
+        if(negative)
+            start++;
+
+        // first pass: find the decimal point and the exponent
+        int point = -1, digitsEnd = end, exponent = 0;
+        for(int i = start; i < end; i++)
+        {
+            char c = buffer[i];
+            if(c == '.' && point < 0)
+                point = i;
+            else if((c == 'e' || c == 'E') && i > start)
+            {
+                digitsEnd = i;
+                int j = i + 1;
+                boolean negativeExponent = j < end && buffer[j] == '-';
+                if(j < end && (buffer[j] == '-' || buffer[j] == '+'))
+                    j++;
+                if(j == end || end - j > 4)
+                    return null;
+                for(; j < end; j++)
+                {
+                    int digit = buffer[j] - '0';
+                    if(digit < 0 || digit > 9)
+                        return null;
+                    exponent = exponent * 10 + digit;
+                }
+                if(negativeExponent)
+                    exponent = -exponent;
+                break;
+            }
+            else if(c < '0' || c > '9')
+                return null;
+        }
+        int mantissaDigits = point < 0 ? digitsEnd - start : digitsEnd - start - 1;
+        if(mantissaDigits == 0)
+            return null;
+        int integerDigits = (point < 0 ? mantissaDigits : point - start) + exponent;
+
+        // second pass: digit k of the mantissa is a whole-second digit if k < integerDigits, else a fraction digit
+        long seconds = 0L;
+        int nanoseconds = 0;
+        for(int i = start, k = 0; i < digitsEnd; i++)
+        {
+            if(i == point)
+                continue;
+            int digit = buffer[i] - '0';
+            int position = k++ - integerDigits;
+            if(position < 0)
+            {
+                if(seconds > (Long.MAX_VALUE - digit) / 10)
+                    return null;
+                seconds = seconds * 10 + digit;
+            }
+            else if(position < 9)
+                nanoseconds += digit * POWERS_OF_TEN[8 - position];
+            else
+                break;
+        }
+        // a positive exponent can shift the point past the last mantissa digit
+        for(int k = mantissaDigits; k < integerDigits; k++)
+        {
+            if(seconds > Long.MAX_VALUE / 10)
+                return null;
+            seconds *= 10;
+        }
+
+        return negative ? new SecondsAndNanoseconds(-seconds, -nanoseconds)
+                : new SecondsAndNanoseconds(seconds, nanoseconds);
+    }
+
+    /**
+     * The whole seconds and the nanoseconds of a decimal number, both truncated toward zero, so the nanoseconds have
+     * the sign of the number.
+     *
+     * @since 2.3.3
+     */
+    public static final class SecondsAndNanoseconds
+    {
+        public final long seconds;
+        public final int nanoseconds;
+
+        SecondsAndNanoseconds(long seconds, int nanoseconds)
+        {
+            this.seconds = seconds;
+            this.nanoseconds = nanoseconds;
+        }
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+/**
+ * Integer timestamps in a chosen unit and, for instants, counted from a chosen epoch. Install them with
+ * {@link ThreetenbpModule#setIntegerTimestamps} to have {@link Instant}s, {@link org.threeten.bp.OffsetDateTime}s,
+ * {@link org.threeten.bp.ZonedDateTime}s and {@link Duration}s written as one such {@code long} when
+ * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} is enabled, and read from one
+ * regardless of the nanosecond features. Decimal timestamps are still read as seconds since 1970.<br>
+ * <br>
+ * Values are rounded down to whole units. Those that do not fit into a {@code long} are an
+ * {@link ArithmeticException}, as with {@link Instant#toEpochMilli()}.
+ *
+ * @since 2.3.3
+ */
+public final class IntegerTimestamps implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    private final TimeUnit unit;
+
+    private final Instant epoch;
+
+    private final long unitsPerSecond;
+
+    private final int nanosPerUnit;
+
+    private IntegerTimestamps(TimeUnit unit, Instant epoch)
+    {
+        if(unit != TimeUnit.SECONDS && unit != TimeUnit.MILLISECONDS && unit != TimeUnit.MICROSECONDS &&
+                unit != TimeUnit.NANOSECONDS)
+            throw new IllegalArgumentException("The unit must be seconds, milliseconds, microseconds or nanoseconds.");
+        if(epoch == null)
+            throw new IllegalArgumentException("The epoch must not be null.");
+        this.unit = unit;
+        this.epoch = epoch;
+        this.unitsPerSecond = unit.convert(1L, TimeUnit.SECONDS);
+        this.nanosPerUnit = (int) unit.toNanos(1L);
+    }
+
+    /**
+     * Returns timestamps in the given unit since {@code 1970-01-01T00:00:00Z}.
+     */
+    public static IntegerTimestamps of(TimeUnit unit)
+    {
+        return new IntegerTimestamps(unit, Instant.EPOCH);
+    }
+
+    /**
+     * Returns timestamps in the given unit since the given epoch.
+     */
+    public static IntegerTimestamps of(TimeUnit unit, Instant epoch)
+    {
+        return new IntegerTimestamps(unit, epoch);
+    }
+
+    public TimeUnit getUnit()
+    {
+        return this.unit;
+    }
+
+    public Instant getEpoch()
+    {
+        return this.epoch;
+    }
+
+    /**
+     * Returns the timestamp of the instant given as seconds and nanoseconds since 1970.
+     */
+    public long toTimestamp(long epochSecond, int nanoOfSecond)
+    {
+        long seconds = epochSecond - this.epoch.getEpochSecond();
+        int nanoseconds = nanoOfSecond - this.epoch.getNano();
+        if(nanoseconds < 0)
+        {
+            seconds--;
+            nanoseconds += NANOS_PER_SECOND;
+        }
+        return this.toUnits(seconds, nanoseconds);
+    }
+
+    /**
+     * Returns the length of the duration in the unit; the epoch does not matter for durations.
+     */
+    public long toTimestamp(Duration duration)
+    {
+        return this.toUnits(duration.getSeconds(), duration.getNano());
+    }
+
+    public Instant toInstant(long timestamp)
+    {
+        long seconds = timestamp / this.unitsPerSecond;
+        long units = timestamp % this.unitsPerSecond;
+        if(units < 0)
+        {
+            seconds--;
+            units += this.unitsPerSecond;
+        }
+        return this.epoch.plusSeconds(seconds).plusNanos(units * this.nanosPerUnit);
+    }
+
+    public Duration toDuration(long timestamp)
+    {
+        long seconds = timestamp / this.unitsPerSecond;
+        long units = timestamp % this.unitsPerSecond;
+        if(units < 0)
+        {
+            seconds--;
+            units += this.unitsPerSecond;
+        }
+        return Duration.ofSeconds(seconds, units * this.nanosPerUnit);
+    }
+
+    private long toUnits(long seconds, int nanoseconds)
+    {
+        long units = nanoseconds / this.nanosPerUnit;
+        if(seconds > (Long.MAX_VALUE - units) / this.unitsPerSecond || seconds < Long.MIN_VALUE / this.unitsPerSecond)
+            throw new ArithmeticException("The timestamp does not fit into a long.");
+        return seconds * this.unitsPerSecond + units;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if(other == this)
+            return true;
+        if(!(other instanceof IntegerTimestamps))
+            return false;
+        IntegerTimestamps timestamps = (IntegerTimestamps) other;
+        return this.unit == timestamps.unit && this.epoch.equals(timestamps.epoch);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.unit.hashCode() * 31 + this.epoch.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.unit + " since " + this.epoch;
+    }
+}
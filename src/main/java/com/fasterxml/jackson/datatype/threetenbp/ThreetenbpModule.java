@@ -18,6 +18,7 @@ package com.fasterxml.jackson.datatype.threetenbp;
 
 import com.fasterxml.jackson.core.json.PackageVersion;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.deser.DurationDeserializer;
 import com.fasterxml.jackson.datatype.threetenbp.deser.InstantDeserializer;
@@ -32,8 +33,13 @@ import com.fasterxml.jackson.datatype.threetenbp.ser.InstantSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.ser.LocalTimeSerializer;
+import com.fasterxml.jackson.datatype.threetenbp.ser.MonthDaySerializer;
 import com.fasterxml.jackson.datatype.threetenbp.ser.OffsetTimeSerializer;
+import com.fasterxml.jackson.datatype.threetenbp.ser.RenderCache;
+import com.fasterxml.jackson.datatype.threetenbp.ser.RenderCachingSerializer;
+import com.fasterxml.jackson.datatype.threetenbp.ser.YearMonthSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.ser.YearSerializer;
+import com.fasterxml.jackson.datatype.threetenbp.ser.ZoneIdSerializer;
 
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
@@ -49,6 +55,7 @@ import org.threeten.bp.YearMonth;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.temporal.Temporal;
 
 /**
  * Class that registers this module with the Jackson core.<br>
@@ -101,6 +108,94 @@ public final class ThreetenbpModule extends SimpleModule
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Optional behavior of this module that is not covered by the Jackson serialization and deserialization
+     * features. All of these are disabled by default.
+     *
+     * @since 2.3.3
+     */
+    public enum Feature
+    {
+        /**
+         * Feature that makes {@link LocalDate}s in a window of years around the present deserialize to one shared
+         * instance per date, which reduces the memory held by large deserialized graphs.
+         */
+        CANONICAL_LOCAL_DATES(false),
+
+        /**
+         * Feature that makes {@link LocalDate}s, {@link LocalTime}s, {@link LocalDateTime}s and {@link OffsetTime}s
+         * write timestamps as single numbers instead of arrays of their fields: epoch days, nanoseconds of the day,
+         * nanoseconds since the local epoch, and for offset times the nanoseconds of the day and offset seconds. With
+         * this feature both forms are accepted when deserializing; without it the packed forms are rejected, since a
+         * short array such as {@code [10,15]} would otherwise be read as a packed offset time.
+         */
+        PACKED_LOCAL_TIMESTAMPS(false),
+
+        /**
+         * Feature that makes {@link Instant}s, {@link OffsetDateTime}s, {@link ZonedDateTime}s and {@link Duration}s
+         * write nanosecond timestamps as the shortest decimal that reads back exactly: the fraction without trailing
+         * zeros, and a single zero digit for whole seconds, like {@code 1392000000.0}. Keeping the point means whole
+         * seconds are not mistaken for milliseconds when READ_DATE_TIMESTAMPS_AS_NANOSECONDS is disabled.
+         */
+        SHORTEST_DECIMAL_TIMESTAMPS(false),
+
+        /**
+         * Feature that makes {@link Instant}s, {@link OffsetDateTime}s, {@link ZonedDateTime}s, {@link LocalDateTime}s,
+         * {@link LocalTime}s and {@link OffsetTime}s write their ISO-8601 strings at a fixed width, always with the
+         * seconds and all nine fraction digits, like {@code 2014-02-15T10:10:00.000000000Z}, so that fields can be
+         * sliced by position. For years {@code 0000-9999}, the strings of {@link Instant}s, {@link LocalDateTime}s and
+         * {@link LocalTime}s also sort the same as the values; those of {@link OffsetDateTime}s and
+         * {@link OffsetTime}s only do among values with the same offset, and those of {@link ZonedDateTime}s do not
+         * in general. These types do not go through the {@link #setRenderCache render cache}, which only knows
+         * {@code toString()}.
+         */
+        FIXED_WIDTH_ISO_STRINGS(false),
+
+        /**
+         * Feature that makes {@link Instant}s, {@link OffsetDateTime}s, {@link ZonedDateTime}s, {@link LocalDateTime}s,
+         * {@link LocalDate}s, {@link LocalTime}s and {@link OffsetTime}s write their ISO-8601 strings in the basic
+         * form, without separators and always with the seconds, like {@code 20140215T101010.123Z} or
+         * {@code 20140215}. Values outside the years {@code 0000-9999} keep the extended form. Combined with
+         * {@link #FIXED_WIDTH_ISO_STRINGS} the fraction has all nine digits. Both forms are always accepted when
+         * deserializing. Like fixed-width strings, these types then bypass the render cache.
+         */
+        BASIC_ISO_STRINGS(false);
+
+        private final boolean defaultState;
+
+        private Feature(boolean defaultState)
+        {
+            this.defaultState = defaultState;
+        }
+
+        public boolean enabledByDefault()
+        {
+            return this.defaultState;
+        }
+
+        public int getMask()
+        {
+            return 1 << this.ordinal();
+        }
+
+        static int collectDefaults()
+        {
+            int flags = 0;
+            for(Feature feature : values())
+            {
+                if(feature.enabledByDefault())
+                    flags |= feature.getMask();
+            }
+            return flags;
+        }
+    }
+
+    private int features = Feature.collectDefaults();
+
+    private RenderCache renderCache;
+
+    private IntegerTimestamps integerTimestamps;
+
     public ThreetenbpModule()
     {
         super(PackageVersion.VERSION);
@@ -127,14 +222,140 @@ public final class ThreetenbpModule extends SimpleModule
         addSerializer(LocalDateTime.class, LocalDateTimeSerializer.INSTANCE);
         addSerializer(LocalDate.class, LocalDateSerializer.INSTANCE);
         addSerializer(LocalTime.class, LocalTimeSerializer.INSTANCE);
-        addSerializer(MonthDay.class, ToStringSerializer.instance);
+        addSerializer(MonthDay.class, MonthDaySerializer.INSTANCE);
         addSerializer(OffsetDateTime.class, InstantSerializer.OFFSET_DATE_TIME);
         addSerializer(OffsetTime.class, OffsetTimeSerializer.INSTANCE);
         addSerializer(Period.class, ToStringSerializer.instance);
         addSerializer(Year.class, YearSerializer.INSTANCE);
-        addSerializer(YearMonth.class, ToStringSerializer.instance);
+        addSerializer(YearMonth.class, YearMonthSerializer.INSTANCE);
         addSerializer(ZonedDateTime.class, InstantSerializer.ZONED_DATE_TIME);
-        addSerializer(ZoneId.class, ToStringSerializer.instance);
-        addSerializer(ZoneOffset.class, ToStringSerializer.instance);
+        addSerializer(ZoneId.class, ZoneIdSerializer.INSTANCE);
+        addSerializer(ZoneOffset.class, ZoneIdSerializer.INSTANCE);
+    }
+
+    /**
+     * @since 2.3.3
+     */
+    public ThreetenbpModule enable(Feature feature)
+    {
+        this.features |= feature.getMask();
+        return this;
+    }
+
+    /**
+     * @since 2.3.3
+     */
+    public ThreetenbpModule disable(Feature feature)
+    {
+        this.features &= ~feature.getMask();
+        return this;
+    }
+
+    /**
+     * @since 2.3.3
+     */
+    public ThreetenbpModule configure(Feature feature, boolean state)
+    {
+        return state ? this.enable(feature) : this.disable(feature);
+    }
+
+    /**
+     * @since 2.3.3
+     */
+    public boolean isEnabled(Feature feature)
+    {
+        return (this.features & feature.getMask()) != 0;
+    }
+
+    /**
+     * Makes the serializers of this module write ISO-8601 strings through the given cache, or stops them doing so if
+     * it is {@code null}. One cache may be shared by several modules.
+     *
+     * @since 2.3.3
+     */
+    public ThreetenbpModule setRenderCache(RenderCache renderCache)
+    {
+        this.renderCache = renderCache;
+        return this;
+    }
+
+    /**
+     * @since 2.3.3
+     */
+    public RenderCache getRenderCache()
+    {
+        return this.renderCache;
+    }
+
+    /**
+     * Makes instants, offset and zoned date-times, and durations use the given kind of integer timestamps, or the
+     * default ones if it is {@code null}.
+     *
+     * @since 2.3.3
+     */
+    public ThreetenbpModule setIntegerTimestamps(IntegerTimestamps integerTimestamps)
+    {
+        this.integerTimestamps = integerTimestamps;
+        return this;
+    }
+
+    /**
+     * @since 2.3.3
+     */
+    public IntegerTimestamps getIntegerTimestamps()
+    {
+        return this.integerTimestamps;
+    }
+
+    @Override
+    public void setupModule(SetupContext context)
+    {
+        boolean packed = this.isEnabled(Feature.PACKED_LOCAL_TIMESTAMPS);
+        addDeserializer(LocalDate.class, (this.isEnabled(Feature.CANONICAL_LOCAL_DATES) ?
+                LocalDateDeserializer.CANONICAL : LocalDateDeserializer.INSTANCE).withPackedTimestamps(packed));
+        addDeserializer(LocalDateTime.class, LocalDateTimeDeserializer.INSTANCE.withPackedTimestamps(packed));
+        addDeserializer(LocalTime.class, LocalTimeDeserializer.INSTANCE.withPackedTimestamps(packed));
+        addDeserializer(OffsetTime.class, OffsetTimeDeserializer.INSTANCE.withPackedTimestamps(packed));
+        IntegerTimestamps timestamps = this.integerTimestamps;
+        addDeserializer(Duration.class, DurationDeserializer.INSTANCE.withIntegerTimestamps(timestamps));
+        addDeserializer(Instant.class, InstantDeserializer.INSTANT.withIntegerTimestamps(timestamps));
+        addDeserializer(OffsetDateTime.class, InstantDeserializer.OFFSET_DATE_TIME.withIntegerTimestamps(timestamps));
+        addDeserializer(ZonedDateTime.class, InstantDeserializer.ZONED_DATE_TIME.withIntegerTimestamps(timestamps));
+
+        boolean shortest = this.isEnabled(Feature.SHORTEST_DECIMAL_TIMESTAMPS);
+        boolean fixedWidth = this.isEnabled(Feature.FIXED_WIDTH_ISO_STRINGS);
+        boolean basic = this.isEnabled(Feature.BASIC_ISO_STRINGS);
+        // the render cache only holds the text of toString()
+        boolean cached = !fixedWidth && !basic;
+        addRenderedSerializer(Duration.class,
+                DurationSerializer.INSTANCE.withIntegerTimestamps(timestamps).withShortestDecimals(shortest), true);
+        addRenderedSerializer(Instant.class, this.configure(InstantSerializer.INSTANT, shortest), cached);
+        addRenderedSerializer(LocalDateTime.class, (packed ? LocalDateTimeSerializer.PACKED :
+                LocalDateTimeSerializer.INSTANCE).withFixedWidthStrings(fixedWidth).withBasicStrings(basic), cached);
+        addRenderedSerializer(LocalDate.class, (packed ? LocalDateSerializer.PACKED : LocalDateSerializer.INSTANCE)
+                .withBasicStrings(basic), !basic);
+        addRenderedSerializer(LocalTime.class, (packed ? LocalTimeSerializer.PACKED :
+                LocalTimeSerializer.INSTANCE).withFixedWidthStrings(fixedWidth).withBasicStrings(basic), cached);
+        addRenderedSerializer(OffsetDateTime.class, this.configure(InstantSerializer.OFFSET_DATE_TIME, shortest),
+                cached);
+        addRenderedSerializer(OffsetTime.class, (packed ? OffsetTimeSerializer.PACKED :
+                OffsetTimeSerializer.INSTANCE).withFixedWidthStrings(fixedWidth).withBasicStrings(basic), cached);
+        addRenderedSerializer(ZonedDateTime.class, this.configure(InstantSerializer.ZONED_DATE_TIME, shortest),
+                cached);
+
+        super.setupModule(context);
+    }
+
+    private <T extends Temporal> InstantSerializer<T> configure(InstantSerializer<T> serializer, boolean shortest)
+    {
+        return serializer.withIntegerTimestamps(this.integerTimestamps).withShortestDecimals(shortest)
+                .withFixedWidthStrings(this.isEnabled(Feature.FIXED_WIDTH_ISO_STRINGS))
+                .withBasicStrings(this.isEnabled(Feature.BASIC_ISO_STRINGS));
+    }
+
+    private <T> void addRenderedSerializer(Class<T> type, StdSerializer<T> serializer, boolean cached)
+    {
+        addSerializer(type, this.renderCache == null || !cached ? serializer :
+                new RenderCachingSerializer<T>(type, serializer, this.renderCache));
     }
 }
@@ -20,9 +20,9 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.threetenbp.DecimalUtils;
+import com.fasterxml.jackson.datatype.threetenbp.IntegerTimestamps;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import org.threeten.bp.Duration;
 
 /**
@@ -35,11 +35,25 @@ public class DurationDeserializer extends ThreetenbpDeserializerBase<Duration>
 {
     private static final long serialVersionUID = 1L;
 
-    public static final DurationDeserializer INSTANCE = new DurationDeserializer();
+    public static final DurationDeserializer INSTANCE = new DurationDeserializer(null);
 
-    private DurationDeserializer()
+    private final IntegerTimestamps timestamps;
+
+    private DurationDeserializer(IntegerTimestamps timestamps)
     {
         super(Duration.class);
+        this.timestamps = timestamps;
+    }
+
+    /**
+     * Returns a deserializer that reads integers in the unit of the given kind of timestamps, or as before if it is
+     * {@code null}.
+     *
+     * @since 2.3.3
+     */
+    public DurationDeserializer withIntegerTimestamps(IntegerTimestamps timestamps)
+    {
+        return timestamps == this.timestamps ? this : new DurationDeserializer(timestamps);
     }
 
     @Override
@@ -48,22 +62,25 @@ public class DurationDeserializer extends ThreetenbpDeserializerBase<Duration>
         switch(parser.getCurrentToken())
         {
             case VALUE_NUMBER_FLOAT:
-                BigDecimal value = parser.getDecimalValue();
-                long seconds = value.longValue();
-                int nanoseconds = DecimalUtils.extractNanosecondDecimal(value, seconds);
-                return Duration.ofSeconds(seconds, nanoseconds);
+                DecimalUtils.SecondsAndNanoseconds value = DecimalUtils.extractDecimal(parser);
+                return Duration.ofSeconds(value.seconds, value.nanoseconds);
 
             case VALUE_NUMBER_INT:
-                if(context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS))
+                if(this.timestamps != null)
+                    return this.timestamps.toDuration(parser.getLongValue());
+                else if(context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS))
                     return Duration.ofSeconds(parser.getLongValue());
                 else
                     return Duration.ofMillis(parser.getLongValue());
 
             case VALUE_STRING:
-                String string = parser.getText().trim();
-                if(string.length() == 0)
+                char[] buffer = parser.getTextCharacters();
+                int start = parser.getTextOffset();
+                int end = trimEnd(buffer, start, start + parser.getTextLength());
+                start = trimStart(buffer, start, end);
+                if(start == end)
                     return null;
-                return Duration.parse(string);
+                return Duration.parse(new String(buffer, start, end - start));
         }
 
         throw context.mappingException("Expected type float, integer, or string.");
@@ -20,14 +20,15 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.threetenbp.DecimalUtils;
+import com.fasterxml.jackson.datatype.threetenbp.IntegerTimestamps;
 import org.threeten.bp.Instant;
 import org.threeten.bp.OffsetDateTime;
 import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.temporal.Temporal;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 
 /**
  * Deserializer for Java 8 temporal {@link Instant}s, {@link OffsetDateTime}, and {@link ZonedDateTime}s.
@@ -39,7 +40,14 @@ public abstract class InstantDeserializer<T extends Temporal> extends Threetenbp
 {
     private static final long serialVersionUID = 1L;
 
-    abstract T parse(CharSequence str);
+    private final IntegerTimestamps timestamps;
+
+    /**
+     * Returns an otherwise identical deserializer for the given integer timestamps.
+     */
+    abstract InstantDeserializer<T> with(IntegerTimestamps timestamps);
+
+    abstract T parse(char[] text, int start, int end);
 
     abstract T fromMilliseconds(FromIntegerArguments ms);
 
@@ -47,71 +55,26 @@ public abstract class InstantDeserializer<T extends Temporal> extends Threetenbp
 
     abstract T adjust(T t, ZoneId zone);
 
-    private InstantDeserializer(Class<T> supportedType) {
+    private InstantDeserializer(Class<T> supportedType, IntegerTimestamps timestamps) {
         super(supportedType);
+        this.timestamps = timestamps;
     }
 
-        public static final InstantDeserializer<Instant> INSTANT = new InstantDeserializer<Instant>(Instant.class) {
-        Instant parse(CharSequence str) {
-            return Instant.parse(str);
-        }
-
-        Instant fromMilliseconds(FromIntegerArguments ms) {
-            return Instant.ofEpochMilli(ms.value);
-        }
-
-        Instant fromNanoseconds(FromDecimalArguments ns) {
-            return Instant.ofEpochSecond(ns.integer, ns.fraction);
-        }
-
-        Instant adjust(Instant temporal, ZoneId zone) {
-            return temporal;
-        }
-    };
-
-    public static final InstantDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new InstantDeserializer<OffsetDateTime>(OffsetDateTime.class) {
-        @Override
-        OffsetDateTime parse(CharSequence str) {
-            return OffsetDateTime.parse(str);
-        }
-
-        @Override
-        OffsetDateTime fromMilliseconds(FromIntegerArguments a) {
-            return OffsetDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId);
-        }
-
-        @Override
-        OffsetDateTime fromNanoseconds(FromDecimalArguments a) {
-            return OffsetDateTime.ofInstant(Instant.ofEpochSecond(a.integer, a.fraction), a.zoneId);
-        }
-
-        @Override
-        OffsetDateTime adjust(OffsetDateTime d, ZoneId z) {
-            return d.withOffsetSameInstant(z.getRules().getOffset(d.toLocalDateTime()));
-        }
-    };
-
-    public static final InstantDeserializer<ZonedDateTime> ZONED_DATE_TIME = new InstantDeserializer<ZonedDateTime>(ZonedDateTime.class) {
-        @Override
-        ZonedDateTime parse(CharSequence str) {
-            return ZonedDateTime.parse(str);
-        }
+    public static final InstantDeserializer<Instant> INSTANT = new OfInstant(null);
 
-        @Override
-        ZonedDateTime fromMilliseconds(FromIntegerArguments a) {
-            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId);
-        }
+    public static final InstantDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new OfOffsetDateTime(null);
 
-        @Override
-        ZonedDateTime fromNanoseconds(FromDecimalArguments a) {
-            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(a.integer, a.fraction), a.zoneId);
-        }
+    public static final InstantDeserializer<ZonedDateTime> ZONED_DATE_TIME = new OfZonedDateTime(null);
 
-        @Override
-        ZonedDateTime adjust(ZonedDateTime d, ZoneId z) {
-            return d.withZoneSameInstant(z);
-        }
-    };
+    /**
+     * Returns a deserializer that reads integers as timestamps of the given kind, or as before if it is {@code null}.
+     *
+     * @since 2.3.3
+     */
+    public InstantDeserializer<T> withIntegerTimestamps(IntegerTimestamps timestamps)
+    {
+        return timestamps == this.timestamps ? this : this.with(timestamps);
+    }
 
     @Override
     public T deserialize(JsonParser parser, DeserializationContext context) throws IOException
@@ -121,15 +84,20 @@ public abstract class InstantDeserializer<T extends Temporal> extends Threetenbp
         switch(parser.getCurrentToken())
         {
             case VALUE_NUMBER_FLOAT:
-                BigDecimal value = parser.getDecimalValue();
-                long seconds = value.longValue();
-                int nanoseconds = DecimalUtils.extractNanosecondDecimal(value, seconds);
+                DecimalUtils.SecondsAndNanoseconds value = DecimalUtils.extractDecimal(parser);
                 return this.fromNanoseconds(new FromDecimalArguments(
-                        seconds, nanoseconds, this.getZone(context)
+                        value.seconds, value.nanoseconds, this.getZone(context)
                 ));
 
             case VALUE_NUMBER_INT:
-                if(context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS))
+                if(this.timestamps != null)
+                {
+                    Instant instant = this.timestamps.toInstant(parser.getLongValue());
+                    return this.fromNanoseconds(new FromDecimalArguments(
+                            instant.getEpochSecond(), instant.getNano(), this.getZone(context)
+                    ));
+                }
+                else if(context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS))
                 {
                     return this.fromNanoseconds(new FromDecimalArguments(
                             parser.getLongValue(), 0, this.getZone(context)
@@ -143,12 +111,15 @@ public abstract class InstantDeserializer<T extends Temporal> extends Threetenbp
                 }
 
             case VALUE_STRING:
-                String string = parser.getText().trim();
-                if(string.length() == 0)
+                char[] buffer = parser.getTextCharacters();
+                int start = parser.getTextOffset();
+                int end = trimEnd(buffer, start, start + parser.getTextLength());
+                start = trimStart(buffer, start, end);
+                if(start == end)
                     return null;
                 if(context.isEnabled(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE))
-                    return this.adjust(this.parse(string), this.getZone(context));
-                return this.parse(string);
+                    return this.adjust(this.parse(buffer, start, end), this.getZone(context));
+                return this.parse(buffer, start, end);
         }
         throw context.mappingException("Expected type float, integer, or string.");
     }
@@ -156,7 +127,14 @@ public abstract class InstantDeserializer<T extends Temporal> extends Threetenbp
     private ZoneId getZone(DeserializationContext context)
     {
         // Instants are always in UTC, so don't waste compute cycles
-        return this._valueClass == Instant.class ? null : ZoneId.of(context.getTimeZone().getID());
+        if(this._valueClass == Instant.class)
+            return null;
+
+        String id = context.getTimeZone().getID();
+        // GMT is Jackson's default time zone, and ZoneId.of resolves both of these to UTC anyway
+        if(id.equals("GMT") || id.equals("UTC"))
+            return ZoneOffset.UTC;
+        return ZoneIdCache.ZONE_IDS.get(id);
     }
 
     private static class FromIntegerArguments
@@ -184,4 +162,111 @@ public abstract class InstantDeserializer<T extends Temporal> extends Threetenbp
             this.zoneId = zoneId;
         }
     }
+
+    private static final class OfInstant extends InstantDeserializer<Instant>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private OfInstant(IntegerTimestamps timestamps) {
+            super(Instant.class, timestamps);
+        }
+
+        @Override
+        InstantDeserializer<Instant> with(IntegerTimestamps timestamps) {
+            return new OfInstant(timestamps);
+        }
+
+        @Override
+        Instant parse(char[] text, int start, int end) {
+            Instant instant = IsoDateTimeParser.parseInstant(text, start, end);
+            return instant == null ? Instant.parse(new String(text, start, end - start)) : instant;
+        }
+
+        @Override
+        Instant fromMilliseconds(FromIntegerArguments ms) {
+            return Instant.ofEpochMilli(ms.value);
+        }
+
+        @Override
+        Instant fromNanoseconds(FromDecimalArguments ns) {
+            return Instant.ofEpochSecond(ns.integer, ns.fraction);
+        }
+
+        @Override
+        Instant adjust(Instant temporal, ZoneId zone) {
+            return temporal;
+        }
+    }
+
+    private static final class OfOffsetDateTime extends InstantDeserializer<OffsetDateTime>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private OfOffsetDateTime(IntegerTimestamps timestamps) {
+            super(OffsetDateTime.class, timestamps);
+        }
+
+        @Override
+        InstantDeserializer<OffsetDateTime> with(IntegerTimestamps timestamps) {
+            return new OfOffsetDateTime(timestamps);
+        }
+
+        @Override
+        OffsetDateTime parse(char[] text, int start, int end) {
+            OffsetDateTime dateTime = IsoDateTimeParser.parseOffsetDateTime(text, start, end);
+            return dateTime == null ? OffsetDateTime.parse(new String(text, start, end - start)) : dateTime;
+        }
+
+        @Override
+        OffsetDateTime fromMilliseconds(FromIntegerArguments a) {
+            Instant instant = Instant.ofEpochMilli(a.value);
+            return OffsetDateTime.ofInstant(instant, ZoneOffsetWindows.forInstant(a.zoneId, instant.getEpochSecond()));
+        }
+
+        @Override
+        OffsetDateTime fromNanoseconds(FromDecimalArguments a) {
+            Instant instant = Instant.ofEpochSecond(a.integer, a.fraction);
+            return OffsetDateTime.ofInstant(instant, ZoneOffsetWindows.forInstant(a.zoneId, instant.getEpochSecond()));
+        }
+
+        @Override
+        OffsetDateTime adjust(OffsetDateTime d, ZoneId z) {
+            return d.withOffsetSameInstant(ZoneOffsetWindows.forLocal(z, d.toLocalDateTime()));
+        }
+    }
+
+    private static final class OfZonedDateTime extends InstantDeserializer<ZonedDateTime>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private OfZonedDateTime(IntegerTimestamps timestamps) {
+            super(ZonedDateTime.class, timestamps);
+        }
+
+        @Override
+        InstantDeserializer<ZonedDateTime> with(IntegerTimestamps timestamps) {
+            return new OfZonedDateTime(timestamps);
+        }
+
+        @Override
+        ZonedDateTime parse(char[] text, int start, int end) {
+            ZonedDateTime dateTime = IsoDateTimeParser.parseZonedDateTime(text, start, end);
+            return dateTime == null ? ZonedDateTime.parse(new String(text, start, end - start)) : dateTime;
+        }
+
+        @Override
+        ZonedDateTime fromMilliseconds(FromIntegerArguments a) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId);
+        }
+
+        @Override
+        ZonedDateTime fromNanoseconds(FromDecimalArguments a) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(a.integer, a.fraction), a.zoneId);
+        }
+
+        @Override
+        ZonedDateTime adjust(ZonedDateTime d, ZoneId z) {
+            return d.withZoneSameInstant(z);
+        }
+    }
 }
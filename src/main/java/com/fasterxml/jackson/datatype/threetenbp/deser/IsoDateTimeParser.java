@@ -0,0 +1,689 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.deser;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.MonthDay;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.OffsetTime;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+
+/**
+ * Fixed-grammar parsers for the canonical ISO-8601 shapes written by this module. Each method either returns the
+ * parsed value or {@code null} if the text is not in the exact shape it understands (or is out of range), in which
+ * case the caller must fall back to the threetenbp parser. That way all error reporting stays with threetenbp.<br>
+ * <br>
+ * The date and time methods also accept the basic form without separators, such as {@code 20140215T101010.123Z},
+ * which the threetenbp parsers do not. They tell the forms apart by the length of the date or by whether a colon
+ * follows the hour.
+ *
+ * @since 2.3.3
+ */
+final class IsoDateTimeParser
+{
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    /**
+     * Region IDs are resolved through {@link ZonedDateTime#parse} itself, since the threetenbp zone parser does not
+     * accept every ID that {@link ZoneId#of} does (and vice versa).
+     */
+    private static final ZoneIdCache<ZoneId> REGIONS = new ZoneIdCache<ZoneId>() {
+        @Override
+        ZoneId resolve(String id) {
+            return ZonedDateTime.parse("2000-01-01T00:00Z[" + id + ']').getZone();
+        }
+    };
+
+    /**
+     * The {@code yyyy-MM-ddTHH:mm} prefixes of the instants parsed last, by minute of the hour. Streams of date-times
+     * are mostly sorted, so most of them share their minute with one parsed shortly before, and only need the seconds
+     * parsed. A slot is replaced whenever it holds another minute; entries are immutable, so that happens without
+     * locking.
+     */
+    private static final MinutePrefix[] INSTANT_MINUTES = new MinutePrefix[64];
+
+    /**
+     * The prefixes of the local date-times parsed last, like {@link #INSTANT_MINUTES}, with their dates.
+     */
+    private static final MinutePrefix[] LOCAL_MINUTES = new MinutePrefix[64];
+
+    private IsoDateTimeParser()
+    {
+        throw new RuntimeException("IsoDateTimeParser cannot be instantiated.");
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]Z}.
+     */
+    static Instant parseInstant(char[] text, int start, int end)
+    {
+        if(isBasicDateTime(text, start, end))
+            return parseBasicInstant(text, start, end);
+
+        int zone = end - 1;
+        if(end - start < 17 || text[zone] != 'Z' || text[start + 10] != 'T')
+            return null;
+
+        MinutePrefix prefix = findMinutePrefix(INSTANT_MINUTES, text, start);
+        if(prefix != null)
+        {
+            long nanoOfMinute = parseNanoOfMinute(text, start + 16, zone);
+            if(nanoOfMinute < 0)
+                return null;
+            return Instant.ofEpochSecond(prefix.epochSecond + nanoOfMinute / NANOS_PER_SECOND,
+                    nanoOfMinute % NANOS_PER_SECOND);
+        }
+
+        int date = parseDate(text, start);
+        long nanoOfDay = parseNanoOfDay(text, start + 11, zone);
+        if(date < 0 || nanoOfDay < 0)
+            return null;
+
+        long seconds = toEpochDay(date) * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+        addMinutePrefix(INSTANT_MINUTES, text, start, date, nanoOfDay, null);
+        return Instant.ofEpochSecond(seconds, nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd}.
+     */
+    static LocalDate parseLocalDate(char[] text, int start, int end)
+    {
+        if(end - start == 8)
+        {
+            int date = parseBasicDate(text, start);
+            return date < 0 ? null : toLocalDate(date);
+        }
+        if(end - start != 10)
+            return null;
+
+        int date = parseDate(text, start);
+        return date < 0 ? null : toLocalDate(date);
+    }
+
+    /**
+     * Parses {@code HH:mm[:ss[.fffffffff]]}.
+     */
+    static LocalTime parseLocalTime(char[] text, int start, int end)
+    {
+        long nanoOfDay = isBasicTime(text, start, end) ? parseBasicNanoOfDay(text, start, end) :
+                parseNanoOfDay(text, start, end);
+        return nanoOfDay < 0 ? null : LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}.
+     */
+    static LocalDateTime parseLocalDateTime(char[] text, int start, int end)
+    {
+        if(isBasicDateTime(text, start, end))
+            return parseBasicLocalDateTime(text, start, end);
+
+        if(end - start < 16 || text[start + 10] != 'T')
+            return null;
+
+        MinutePrefix prefix = findMinutePrefix(LOCAL_MINUTES, text, start);
+        if(prefix != null)
+        {
+            long nanoOfMinute = parseNanoOfMinute(text, start + 16, end);
+            if(nanoOfMinute < 0)
+                return null;
+            return LocalDateTime.of(prefix.localDate, LocalTime.ofNanoOfDay(prefix.nanoOfDay + nanoOfMinute));
+        }
+
+        int date = parseDate(text, start);
+        long nanoOfDay = parseNanoOfDay(text, start + 11, end);
+        if(date < 0 || nanoOfDay < 0)
+            return null;
+        LocalDate localDate = toLocalDate(date);
+        addMinutePrefix(LOCAL_MINUTES, text, start, date, nanoOfDay, localDate);
+        return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Parses {@code HH:mm[:ss[.fffffffff]]} followed by {@code Z} or {@code +HH:mm[:ss]}.
+     */
+    static OffsetTime parseOffsetTime(char[] text, int start, int end)
+    {
+        boolean basic = isBasicTime(text, start, end);
+        int offsetStart = basic ? findBasicOffset(text, start + 6, end) : findOffset(text, start + 5, end);
+        if(offsetStart < 0)
+            return null;
+
+        long nanoOfDay = basic ? parseBasicNanoOfDay(text, start, offsetStart) :
+                parseNanoOfDay(text, start, offsetStart);
+        ZoneOffset offset = basic ? parseBasicOffset(text, offsetStart, end) : parseOffset(text, offsetStart, end);
+        if(nanoOfDay < 0 || offset == null)
+            return null;
+        return OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay), offset);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} followed by {@code Z} or {@code +HH:mm[:ss]}.
+     */
+    static OffsetDateTime parseOffsetDateTime(char[] text, int start, int end)
+    {
+        boolean basic = isBasicDateTime(text, start, end);
+        int offsetStart = basic ? findBasicOffset(text, start + 15, end) : findOffset(text, start + 16, end);
+        if(offsetStart < 0)
+            return null;
+
+        LocalDateTime dateTime = parseLocalDateTime(text, start, offsetStart);
+        ZoneOffset offset = basic ? parseBasicOffset(text, offsetStart, end) : parseOffset(text, offsetStart, end);
+        if(dateTime == null || offset == null)
+            return null;
+        return OffsetDateTime.of(dateTime, offset);
+    }
+
+    /**
+     * Parses an offset date-time optionally followed by a bracketed region ID. Like {@link ZonedDateTime#parse}, a
+     * present region wins over the offset: the local date-time is resolved against the region's rules.
+     */
+    static ZonedDateTime parseZonedDateTime(char[] text, int start, int end)
+    {
+        if(end - start < 16)
+            return null;
+
+        int offsetEnd = end;
+        if(text[end - 1] == ']')
+        {
+            do
+            {
+                if(--offsetEnd <= start + 15)
+                    return null;
+            }
+            while(text[offsetEnd] != '[');
+        }
+
+        boolean basic = isBasicDateTime(text, start, offsetEnd);
+        int offsetStart = basic ? findBasicOffset(text, start + 15, offsetEnd) :
+                findOffset(text, start + 16, offsetEnd);
+        if(offsetStart < 0)
+            return null;
+
+        LocalDateTime dateTime = parseLocalDateTime(text, start, offsetStart);
+        ZoneOffset offset = basic ? parseBasicOffset(text, offsetStart, offsetEnd) :
+                parseOffset(text, offsetStart, offsetEnd);
+        if(dateTime == null || offset == null)
+            return null;
+        if(offsetEnd == end)
+            return ZonedDateTime.of(dateTime, offset);
+
+        ZoneId zone = REGIONS.get(text, offsetEnd + 1, end - 1);
+        return zone == null ? null : ZonedDateTime.of(dateTime, zone);
+    }
+
+    /**
+     * Parses {@code --MM-dd}.
+     */
+    static MonthDay parseMonthDay(char[] text, int start, int end)
+    {
+        if(end - start != 7 || text[start] != '-' || text[start + 1] != '-' || text[start + 4] != '-')
+            return null;
+        return TemporalTables.monthDay(parse2Digits(text, start + 2), parse2Digits(text, start + 5));
+    }
+
+    /**
+     * Parses {@code yyyy-MM} for the years that have canonical instances.
+     */
+    static YearMonth parseYearMonth(char[] text, int start, int end)
+    {
+        if(end - start != 7 || text[start + 4] != '-')
+            return null;
+
+        int year = parse4Digits(text, start);
+        int month = parse2Digits(text, start + 5);
+        if(year < TemporalTables.MIN_YEAR || year > TemporalTables.MAX_YEAR || month < 1 || month > 12)
+            return null;
+        return TemporalTables.yearMonth(year, month);
+    }
+
+    /**
+     * Parses {@code yyyyMMddTHHmmss[.fffffffff]Z}.
+     */
+    private static Instant parseBasicInstant(char[] text, int start, int end)
+    {
+        int zone = end - 1;
+        if(end - start < 16 || text[zone] != 'Z')
+            return null;
+
+        int date = parseBasicDate(text, start);
+        long nanoOfDay = parseBasicNanoOfDay(text, start + 9, zone);
+        if(date < 0 || nanoOfDay < 0)
+            return null;
+
+        long seconds = toEpochDay(date) * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+        return Instant.ofEpochSecond(seconds, nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Parses {@code yyyyMMddTHHmmss[.fffffffff]}.
+     */
+    private static LocalDateTime parseBasicLocalDateTime(char[] text, int start, int end)
+    {
+        if(end - start < 15)
+            return null;
+
+        int date = parseBasicDate(text, start);
+        long nanoOfDay = parseBasicNanoOfDay(text, start + 9, end);
+        if(date < 0 || nanoOfDay < 0)
+            return null;
+        return LocalDateTime.of(toLocalDate(date), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Returns whether a date-time is in the basic form, which has its {@code T} right after the eight digits of the
+     * date.
+     */
+    private static boolean isBasicDateTime(char[] text, int start, int end)
+    {
+        return end - start > 8 && text[start + 8] == 'T';
+    }
+
+    /**
+     * Returns whether a time is in the basic form, which has no colon after the hour.
+     */
+    private static boolean isBasicTime(char[] text, int start, int end)
+    {
+        return end - start > 2 && text[start + 2] != ':';
+    }
+
+    /**
+     * Returns the index of the basic offset that ends at {@code end} and starts no earlier than {@code minimum}, or -1
+     * if there is none where one could be.
+     */
+    private static int findBasicOffset(char[] text, int minimum, int end)
+    {
+        if(end - 1 < minimum)
+            return -1;
+        if(text[end - 1] == 'Z')
+            return end - 1;
+        for(int i = end - 5; i >= minimum && i >= end - 7; i -= 2)
+        {
+            char c = text[i];
+            if(c == '+' || c == '-')
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Parses {@code Z}, {@code +HHmm} or {@code +HHmmss} between {@code start} and {@code end}.
+     */
+    private static ZoneOffset parseBasicOffset(char[] text, int start, int end)
+    {
+        int length = end - start;
+        if(length == 1)
+            return text[start] == 'Z' ? ZoneOffset.UTC : null;
+        if(length != 5 && length != 7)
+            return null;
+
+        int hours = parse2Digits(text, start + 1);
+        int minutes = parse2Digits(text, start + 3);
+        int seconds = length == 7 ? parse2Digits(text, start + 5) : 0;
+        return toOffset(text[start] == '-', hours, minutes, seconds);
+    }
+
+    /**
+     * Returns the index of the offset that ends at {@code end} and starts no earlier than {@code minimum}, or -1 if
+     * there is none where one could be.
+     */
+    private static int findOffset(char[] text, int minimum, int end)
+    {
+        if(end - 1 < minimum)
+            return -1;
+        if(text[end - 1] == 'Z')
+            return end - 1;
+        for(int i = end - 6; i >= minimum && i >= end - 9; i -= 3)
+        {
+            char c = text[i];
+            if(c == '+' || c == '-')
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Parses {@code Z}, {@code +HH:mm} or {@code +HH:mm:ss} between {@code start} and {@code end}.
+     */
+    private static ZoneOffset parseOffset(char[] text, int start, int end)
+    {
+        int length = end - start;
+        if(length == 1)
+            return text[start] == 'Z' ? ZoneOffset.UTC : null;
+        if(length != 6 && length != 9)
+            return null;
+
+        int hours = parse2Digits(text, start + 1);
+        int minutes = parse2Digits(text, start + 4);
+        int seconds = 0;
+        if(text[start + 3] != ':')
+            return null;
+        if(length == 9)
+        {
+            seconds = parse2Digits(text, start + 7);
+            if(text[start + 6] != ':')
+                return null;
+        }
+        return toOffset(text[start] == '-', hours, minutes, seconds);
+    }
+
+    /**
+     * Returns the offset of the given fields, which are -1 if they were not digits, or {@code null} if it is out of
+     * range.
+     */
+    private static ZoneOffset toOffset(boolean negative, int hours, int minutes, int seconds)
+    {
+        if(hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59)
+            return null;
+
+        int totalSeconds = hours * 3_600 + minutes * 60 + seconds;
+        if(totalSeconds > 18 * 3_600)
+            return null;
+        // ZoneOffset keeps its own cache of the common quarter-hour offsets
+        return ZoneOffset.ofTotalSeconds(negative ? -totalSeconds : totalSeconds);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} at {@code index} and returns it packed as {@code year << 9 | month << 5 | day}, or -1
+     * if it is not a valid four-digit-year ISO date.
+     */
+    private static int parseDate(char[] text, int index)
+    {
+        if(text[index + 4] != '-' || text[index + 7] != '-')
+            return -1;
+        return toDate(parse4Digits(text, index), parse2Digits(text, index + 5), parse2Digits(text, index + 8));
+    }
+
+    /**
+     * Parses {@code yyyyMMdd} at {@code index} like {@link #parseDate}.
+     */
+    private static int parseBasicDate(char[] text, int index)
+    {
+        return toDate(parse4Digits(text, index), parse2Digits(text, index + 4), parse2Digits(text, index + 6));
+    }
+
+    private static int toDate(int year, int month, int day)
+    {
+        if(year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            return -1;
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Returns the memo of the {@code yyyy-MM-ddTHH:mm} prefix at {@code index} in {@code prefixes}, if it has one. The
+     * text must be at least 16 characters long.
+     */
+    private static MinutePrefix findMinutePrefix(MinutePrefix[] prefixes, char[] text, int index)
+    {
+        MinutePrefix prefix = prefixes[minuteSlot(text, index)];
+        // compares backwards, where sorted date-times differ first
+        if(prefix == null || prefix.time != pack4Chars(text, index + 12) ||
+                prefix.day != pack4Chars(text, index + 8) || prefix.month != pack4Chars(text, index + 4) ||
+                prefix.year != pack4Chars(text, index))
+            return null;
+        return prefix;
+    }
+
+    /**
+     * Remembers the valid {@code yyyy-MM-ddTHH:mm} prefix at {@code index} in {@code prefixes}, given its parsed date
+     * and a nano-of-day within its minute.
+     */
+    private static void addMinutePrefix(MinutePrefix[] prefixes, char[] text, int index, int date, long nanoOfDay,
+                                        LocalDate localDate)
+    {
+        prefixes[minuteSlot(text, index)] = new MinutePrefix(text, index, date, nanoOfDay, localDate);
+    }
+
+    private static int minuteSlot(char[] text, int index)
+    {
+        return ((text[index + 14] - '0') * 10 + text[index + 15] - '0') & (INSTANT_MINUTES.length - 1);
+    }
+
+    private static long pack4Chars(char[] text, int index)
+    {
+        return (long) text[index] << 48 | (long) text[index + 1] << 32 | (long) text[index + 2] << 16 | text[index + 3];
+    }
+
+    /**
+     * Parses the {@code [:ss[.fffffffff]]} that follows a minute between {@code start} and {@code end} and returns the
+     * nano-of-minute, or -1 if it is malformed or out of range.
+     */
+    private static long parseNanoOfMinute(char[] text, int start, int end)
+    {
+        int length = end - start;
+        if(length == 0)
+            return 0;
+        if(length < 3 || length == 4 || length > 13)
+            return -1;
+
+        int second = parse2Digits(text, start + 1);
+        if(text[start] != ':' || second < 0 || second > 59)
+            return -1;
+
+        int nano = 0;
+        if(length > 3)
+        {
+            nano = parseFraction(text, start + 3, end);
+            if(nano < 0)
+                return -1;
+        }
+        return second * NANOS_PER_SECOND + nano;
+    }
+
+    /**
+     * Parses {@code HH:mm[:ss[.fffffffff]]} between {@code start} and {@code end} and returns the nano-of-day, or -1
+     * if it is malformed or out of range.
+     */
+    private static long parseNanoOfDay(char[] text, int start, int end)
+    {
+        int length = end - start;
+        if(length == 18)
+            return parseFixedNanoOfDay(text, start);
+        if(length != 5 && (length < 8 || length == 9 || length > 18))
+            return -1;
+
+        int hour = parse2Digits(text, start);
+        int minute = parse2Digits(text, start + 3);
+        if(hour < 0 || hour > 23 || text[start + 2] != ':' || minute < 0 || minute > 59)
+            return -1;
+
+        int second = 0, nano = 0;
+        if(length > 5)
+        {
+            second = parse2Digits(text, start + 6);
+            if(text[start + 5] != ':' || second < 0 || second > 59)
+                return -1;
+            if(length > 8)
+            {
+                nano = parseFraction(text, start + 8, end);
+                if(nano < 0)
+                    return -1;
+            }
+        }
+        return (hour * 3_600 + minute * 60 + second) * NANOS_PER_SECOND + nano;
+    }
+
+    /**
+     * Parses {@code HHmmss[.fffffffff]} between {@code start} and {@code end} like {@link #parseNanoOfDay}.
+     */
+    private static long parseBasicNanoOfDay(char[] text, int start, int end)
+    {
+        int length = end - start;
+        if(length != 6 && (length < 8 || length > 16))
+            return -1;
+
+        int hour = parse2Digits(text, start);
+        int minute = parse2Digits(text, start + 2);
+        int second = parse2Digits(text, start + 4);
+        if(hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+            return -1;
+
+        int nano = 0;
+        if(length > 6)
+        {
+            nano = parseFraction(text, start + 6, end);
+            if(nano < 0)
+                return -1;
+        }
+        return (hour * 3_600 + minute * 60 + second) * NANOS_PER_SECOND + nano;
+    }
+
+    /**
+     * Parses the fixed-width {@code HH:mm:ss.fffffffff} at {@code index} like {@link #parseNanoOfDay}, reading the
+     * fraction in blocks since it always has nine digits.
+     */
+    private static long parseFixedNanoOfDay(char[] text, int index)
+    {
+        int hour = parse2Digits(text, index);
+        int minute = parse2Digits(text, index + 3);
+        int second = parse2Digits(text, index + 6);
+        if(hour < 0 || hour > 23 || text[index + 2] != ':' || minute < 0 || minute > 59 ||
+                text[index + 5] != ':' || second < 0 || second > 59 || text[index + 8] != '.')
+            return -1;
+
+        int high = parse4Digits(text, index + 9);
+        int low = parse4Digits(text, index + 13);
+        int last = text[index + 17] - '0';
+        if(high < 0 || low < 0 || last < 0 || last > 9)
+            return -1;
+        return (hour * 3_600 + minute * 60 + second) * NANOS_PER_SECOND + high * 100_000 + low * 10 + last;
+    }
+
+    /**
+     * Parses a fraction of one to nine digits between {@code start} and {@code end}, which must begin with the
+     * decimal point, and returns it scaled to nanoseconds, or -1 if it is malformed.
+     */
+    private static int parseFraction(char[] text, int start, int end)
+    {
+        int digits = end - start - 1;
+        if(text[start] != '.' || digits < 1 || digits > 9)
+            return -1;
+
+        int value = 0;
+        for(int i = start + 1; i < end; i++)
+        {
+            int digit = text[i] - '0';
+            if(digit < 0 || digit > 9)
+                return -1;
+            value = value * 10 + digit;
+        }
+        for(int i = digits; i < 9; i++)
+            value *= 10;
+        return value;
+    }
+
+    private static int parse2Digits(char[] text, int index)
+    {
+        int tens = text[index] - '0';
+        int ones = text[index + 1] - '0';
+        if(tens < 0 || tens > 9 || ones < 0 || ones > 9)
+            return -1;
+        return tens * 10 + ones;
+    }
+
+    private static int parse4Digits(char[] text, int index)
+    {
+        int high = parse2Digits(text, index);
+        int low = parse2Digits(text, index + 2);
+        if(high < 0 || low < 0)
+            return -1;
+        return high * 100 + low;
+    }
+
+    private static boolean isLeap(int year)
+    {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month)
+    {
+        switch(month)
+        {
+            case 2:
+                return isLeap(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static LocalDate toLocalDate(int date)
+    {
+        return LocalDate.of(date >>> 9, (date >>> 5) & 0xF, date & 0x1F);
+    }
+
+    /**
+     * Same arithmetic as {@code LocalDate.toEpochDay()}, restricted to the non-negative years of a packed date.
+     */
+    private static long toEpochDay(int date)
+    {
+        int year = date >>> 9, month = (date >>> 5) & 0xF;
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += (date & 0x1F) - 1;
+        if(month > 2)
+        {
+            total--;
+            if(!isLeap(year))
+                total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * A valid {@code yyyy-MM-ddTHH:mm} prefix, held as four characters per long ({@code yyyy}, {@code -MM-},
+     * {@code ddTH} and {@code H:mm}), with the start of the minute it stands for and, for local date-times, its date.
+     */
+    private static final class MinutePrefix
+    {
+        final long year;
+        final long month;
+        final long day;
+        final long time;
+        final long nanoOfDay;
+        final long epochSecond;
+        final LocalDate localDate;
+
+        MinutePrefix(char[] text, int index, int date, long nanoOfDay, LocalDate localDate)
+        {
+            this.year = pack4Chars(text, index);
+            this.month = pack4Chars(text, index + 4);
+            this.day = pack4Chars(text, index + 8);
+            this.time = pack4Chars(text, index + 12);
+            this.nanoOfDay = nanoOfDay / NANOS_PER_MINUTE * NANOS_PER_MINUTE;
+            this.epochSecond = toEpochDay(date) * SECONDS_PER_DAY + this.nanoOfDay / NANOS_PER_SECOND;
+            this.localDate = localDate;
+        }
+    }
+}
@@ -33,15 +33,46 @@ public class LocalDateDeserializer extends ThreetenbpDeserializerBase<LocalDate>
 {
     private static final long serialVersionUID = 1L;
 
-    public static final LocalDateDeserializer INSTANCE = new LocalDateDeserializer();
+    public static final LocalDateDeserializer INSTANCE = new LocalDateDeserializer(false, false);
 
-    private LocalDateDeserializer()
+    /**
+     * Returns one shared instance for each date within a window of years around the present, so that large
+     * deserialized graphs do not hold many copies of the same date.
+     *
+     * @since 2.3.3
+     */
+    public static final LocalDateDeserializer CANONICAL = new LocalDateDeserializer(true, false);
+
+    private final boolean canonical;
+
+    private final boolean packed;
+
+    private LocalDateDeserializer(boolean canonical, boolean packed)
     {
         super(LocalDate.class);
+        this.canonical = canonical;
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a deserializer that also accepts the packed form of the module feature {@code PACKED_LOCAL_TIMESTAMPS},
+     * an integer of epoch days, or only the other forms by default.
+     *
+     * @since 2.3.3
+     */
+    public LocalDateDeserializer withPackedTimestamps(boolean packed)
+    {
+        return packed == this.packed ? this : new LocalDateDeserializer(this.canonical, packed);
     }
 
     @Override
     public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        LocalDate value = this.read(parser, context);
+        return this.canonical && value != null ? TemporalTables.localDate(value) : value;
+    }
+
+    private LocalDate read(JsonParser parser, DeserializationContext context) throws IOException
     {
         switch(parser.getCurrentToken())
         {
@@ -60,13 +91,24 @@ public class LocalDateDeserializer extends ThreetenbpDeserializerBase<LocalDate>
                     throw context.wrongTokenException(parser, JsonToken.END_ARRAY, "Expected array to end.");
                 return LocalDate.of(year, month, day);
 
+            case VALUE_NUMBER_INT:
+                // the packed form, in epoch days
+                if(this.packed)
+                    return LocalDate.ofEpochDay(parser.getLongValue());
+                break;
+
             case VALUE_STRING:
-                String string = parser.getText().trim();
-                if(string.length() == 0)
+                char[] buffer = parser.getTextCharacters();
+                int start = parser.getTextOffset();
+                int end = trimEnd(buffer, start, start + parser.getTextLength());
+                start = trimStart(buffer, start, end);
+                if(start == end)
                     return null;
-                return LocalDate.parse(string);
+                LocalDate value = IsoDateTimeParser.parseLocalDate(buffer, start, end);
+                return value == null ? LocalDate.parse(new String(buffer, start, end - start)) : value;
         }
 
-        throw context.wrongTokenException(parser, JsonToken.START_ARRAY, "Expected array or string.");
+        throw context.wrongTokenException(parser, JsonToken.START_ARRAY,
+                this.packed ? "Expected array, integer, or string." : "Expected array or string.");
     }
 }
@@ -20,9 +20,11 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.threetenbp.DecimalUtils;
 
 import java.io.IOException;
 import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneOffset;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalDateTime}s.
@@ -34,11 +36,27 @@ public class LocalDateTimeDeserializer extends ThreetenbpDeserializerBase<LocalD
 {
     private static final long serialVersionUID = 1L;
 
-    public static final LocalDateTimeDeserializer INSTANCE = new LocalDateTimeDeserializer();
+    public static final LocalDateTimeDeserializer INSTANCE = new LocalDateTimeDeserializer(false);
 
-    private LocalDateTimeDeserializer()
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    private final boolean packed;
+
+    private LocalDateTimeDeserializer(boolean packed)
     {
         super(LocalDateTime.class);
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a deserializer that also accepts the packed form of the module feature {@code PACKED_LOCAL_TIMESTAMPS},
+     * an integer of nanoseconds since the local epoch or a decimal of seconds, or only the other forms by default.
+     *
+     * @since 2.3.3
+     */
+    public LocalDateTimeDeserializer withPackedTimestamps(boolean packed)
+    {
+        return packed == this.packed ? this : new LocalDateTimeDeserializer(packed);
     }
 
     @Override
@@ -85,13 +103,46 @@ public class LocalDateTimeDeserializer extends ThreetenbpDeserializerBase<LocalD
 
                 return LocalDateTime.of(year, month, day, hour, minute);
 
+            case VALUE_NUMBER_INT:
+                // the packed form, in nanoseconds since the local epoch
+                if(!this.packed)
+                    break;
+                long nanoseconds = parser.getLongValue();
+                long seconds = nanoseconds / NANOS_PER_SECOND;
+                int nanoOfSecond = (int) (nanoseconds % NANOS_PER_SECOND);
+                if(nanoOfSecond < 0)
+                {
+                    seconds--;
+                    nanoOfSecond += NANOS_PER_SECOND;
+                }
+                return LocalDateTime.ofEpochSecond(seconds, nanoOfSecond, ZoneOffset.UTC);
+
+            case VALUE_NUMBER_FLOAT:
+                // the packed form of date-times too far from the epoch, in seconds since the local epoch
+                if(!this.packed)
+                    break;
+                DecimalUtils.SecondsAndNanoseconds decimal = DecimalUtils.extractDecimal(parser);
+                seconds = decimal.seconds;
+                nanoOfSecond = decimal.nanoseconds;
+                if(nanoOfSecond < 0)
+                {
+                    seconds--;
+                    nanoOfSecond += NANOS_PER_SECOND;
+                }
+                return LocalDateTime.ofEpochSecond(seconds, nanoOfSecond, ZoneOffset.UTC);
+
             case VALUE_STRING:
-                String string = parser.getText().trim();
-                if(string.length() == 0)
+                char[] buffer = parser.getTextCharacters();
+                int start = parser.getTextOffset();
+                int end = trimEnd(buffer, start, start + parser.getTextLength());
+                start = trimStart(buffer, start, end);
+                if(start == end)
                     return null;
-                return LocalDateTime.parse(string);
+                LocalDateTime value = IsoDateTimeParser.parseLocalDateTime(buffer, start, end);
+                return value == null ? LocalDateTime.parse(new String(buffer, start, end - start)) : value;
         }
 
-        throw context.wrongTokenException(parser, JsonToken.START_ARRAY, "Expected array or string.");
+        throw context.wrongTokenException(parser, JsonToken.START_ARRAY,
+                this.packed ? "Expected array, number, or string." : "Expected array or string.");
     }
 }
@@ -34,11 +34,25 @@ public class LocalTimeDeserializer extends ThreetenbpDeserializerBase<LocalTime>
 {
     private static final long serialVersionUID = 1L;
 
-    public static final LocalTimeDeserializer INSTANCE = new LocalTimeDeserializer();
+    public static final LocalTimeDeserializer INSTANCE = new LocalTimeDeserializer(false);
 
-    private LocalTimeDeserializer()
+    private final boolean packed;
+
+    private LocalTimeDeserializer(boolean packed)
     {
         super(LocalTime.class);
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a deserializer that also accepts the packed form of the module feature {@code PACKED_LOCAL_TIMESTAMPS},
+     * an integer of nanoseconds of the day, or only the other forms by default.
+     *
+     * @since 2.3.3
+     */
+    public LocalTimeDeserializer withPackedTimestamps(boolean packed)
+    {
+        return packed == this.packed ? this : new LocalTimeDeserializer(packed);
     }
 
     @Override
@@ -76,13 +90,24 @@ public class LocalTimeDeserializer extends ThreetenbpDeserializerBase<LocalTime>
 
                 return LocalTime.of(hour, minute);
 
+            case VALUE_NUMBER_INT:
+                // the packed form, in nanoseconds of the day
+                if(this.packed)
+                    return LocalTime.ofNanoOfDay(parser.getLongValue());
+                break;
+
             case VALUE_STRING:
-                String string = parser.getText().trim();
-                if(string.length() == 0)
+                char[] buffer = parser.getTextCharacters();
+                int start = parser.getTextOffset();
+                int end = trimEnd(buffer, start, start + parser.getTextLength());
+                start = trimStart(buffer, start, end);
+                if(start == end)
                     return null;
-                return LocalTime.parse(string);
+                LocalTime value = IsoDateTimeParser.parseLocalTime(buffer, start, end);
+                return value == null ? LocalTime.parse(new String(buffer, start, end - start)) : value;
         }
 
-        throw context.wrongTokenException(parser, JsonToken.START_ARRAY, "Expected array or string.");
+        throw context.wrongTokenException(parser, JsonToken.START_ARRAY,
+                this.packed ? "Expected array, integer, or string." : "Expected array or string.");
     }
 }
@@ -20,10 +20,13 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 
 import java.io.IOException;
+import org.threeten.bp.LocalTime;
 import org.threeten.bp.OffsetTime;
 import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.ChronoField;
 
 /**
  * Deserializer for Java 8 temporal {@link OffsetTime}s.
@@ -35,11 +38,25 @@ public class OffsetTimeDeserializer extends ThreetenbpDeserializerBase<OffsetTim
 {
     private static final long serialVersionUID = 1L;
 
-    public static final OffsetTimeDeserializer INSTANCE = new OffsetTimeDeserializer();
+    public static final OffsetTimeDeserializer INSTANCE = new OffsetTimeDeserializer(false);
 
-    private OffsetTimeDeserializer()
+    private final boolean packed;
+
+    private OffsetTimeDeserializer(boolean packed)
     {
         super(OffsetTime.class);
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a deserializer that also accepts the packed form of the module feature {@code PACKED_LOCAL_TIMESTAMPS},
+     * an array of the nanoseconds of the day and the offset seconds, or only the other forms by default.
+     *
+     * @since 2.3.3
+     */
+    public OffsetTimeDeserializer withPackedTimestamps(boolean packed)
+    {
+        return packed == this.packed ? this : new OffsetTimeDeserializer(packed);
     }
 
     @Override
@@ -50,13 +67,18 @@ public class OffsetTimeDeserializer extends ThreetenbpDeserializerBase<OffsetTim
             case START_ARRAY:
                 if(parser.nextToken() == JsonToken.END_ARRAY)
                     return null;
-                int hour = parser.getIntValue();
+                long first = this.packed ? parser.getLongValue() : parser.getIntValue();
 
                 parser.nextToken();
-                int minute = parser.getIntValue();
+                int next = parser.getIntValue();
+
+                if(parser.nextToken() == JsonToken.END_ARRAY && this.packed)
+                    return unpack(first, next, context);
+                int hour = ChronoField.HOUR_OF_DAY.checkValidIntValue(first);
+                int minute = next;
 
                 int second = 0, partialSecond = 0;
-                if(parser.nextToken() == JsonToken.VALUE_NUMBER_INT)
+                if(parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT)
                 {
                     second = parser.getIntValue();
 
@@ -71,18 +93,41 @@ public class OffsetTimeDeserializer extends ThreetenbpDeserializerBase<OffsetTim
                     }
                 }
 
-                if(parser.getCurrentToken() == JsonToken.VALUE_STRING)
-                    return OffsetTime.of(hour, minute, second, partialSecond, ZoneOffset.of(parser.getText()));
-                else
+                if(parser.getCurrentToken() != JsonToken.VALUE_STRING)
                     throw context.wrongTokenException(parser, JsonToken.VALUE_STRING, "Expected string");
 
+                int offsetStart = parser.getTextOffset();
+                ZoneOffset offset = ZoneIdCache.ZONE_OFFSETS.get(
+                        parser.getTextCharacters(), offsetStart, offsetStart + parser.getTextLength()
+                );
+                if(offset == null)
+                    offset = ZoneOffset.of(parser.getText());
+                return OffsetTime.of(hour, minute, second, partialSecond, offset);
+
             case VALUE_STRING:
-                String string = parser.getText().trim();
-                if(string.length() == 0)
+                char[] buffer = parser.getTextCharacters();
+                int start = parser.getTextOffset();
+                int end = trimEnd(buffer, start, start + parser.getTextLength());
+                start = trimStart(buffer, start, end);
+                if(start == end)
                     return null;
-                return OffsetTime.parse(string);
+                OffsetTime value = IsoDateTimeParser.parseOffsetTime(buffer, start, end);
+                return value == null ? OffsetTime.parse(new String(buffer, start, end - start)) : value;
         }
 
         throw context.wrongTokenException(parser, JsonToken.START_ARRAY, "Expected array or string.");
     }
+
+    /**
+     * Reads the packed form, which is an array of the nanoseconds of the day and the offset seconds.
+     */
+    private static OffsetTime unpack(long nanoOfDay, int offsetSeconds, DeserializationContext context)
+            throws JsonMappingException
+    {
+        if(!ChronoField.NANO_OF_DAY.range().isValidValue(nanoOfDay))
+            throw context.mappingException("Nanoseconds of the day out of range: " + nanoOfDay);
+        if(!ChronoField.OFFSET_SECONDS.range().isValidValue(offsetSeconds))
+            throw context.mappingException("Offset seconds out of range: " + offsetSeconds);
+        return OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay), ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
 }
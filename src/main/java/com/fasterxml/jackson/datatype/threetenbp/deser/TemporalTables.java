@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.deser;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.Month;
+import org.threeten.bp.MonthDay;
+import org.threeten.bp.Year;
+import org.threeten.bp.YearMonth;
+
+/**
+ * Canonical instances of the small temporal types, so that deserializing them is a table lookup and equal values
+ * share one instance. All {@link MonthDay}s are created up front; years, year-months and dates are created on first
+ * use, and only within a window of years around the present. Entries are immutable, so a race at worst creates an
+ * extra instance.
+ *
+ * @since 2.3.3
+ */
+final class TemporalTables
+{
+    // ser.YearMonthSerializer caches its strings for the same window; keep the two in step
+    static final int MIN_YEAR = 1900;
+
+    static final int MAX_YEAR = 2199;
+
+    private static final MonthDay[] MONTH_DAYS = new MonthDay[12 * 31];
+
+    private static final Year[] YEARS = new Year[MAX_YEAR - MIN_YEAR + 1];
+
+    private static final YearMonth[] YEAR_MONTHS = new YearMonth[YEARS.length * 12];
+
+    static
+    {
+        for(int month = 1; month <= 12; month++)
+        {
+            for(int day = 1; day <= Month.of(month).maxLength(); day++)
+                MONTH_DAYS[(month - 1) * 31 + day - 1] = MonthDay.of(month, day);
+        }
+    }
+
+    /**
+     * The date table is only allocated when canonical dates are asked for.
+     */
+    private static final class LocalDates
+    {
+        static final long FIRST_DAY = LocalDate.of(MIN_YEAR, 1, 1).toEpochDay();
+
+        static final LocalDate[] TABLE =
+                new LocalDate[(int) (LocalDate.of(MAX_YEAR + 1, 1, 1).toEpochDay() - FIRST_DAY)];
+    }
+
+    private TemporalTables()
+    {
+        throw new RuntimeException("TemporalTables cannot be instantiated.");
+    }
+
+    /**
+     * Returns the month-day, or {@code null} if there is no such day in any year.
+     */
+    static MonthDay monthDay(int month, int day)
+    {
+        if(month < 1 || month > 12 || day < 1 || day > 31)
+            return null;
+        return MONTH_DAYS[(month - 1) * 31 + day - 1];
+    }
+
+    static Year year(int year)
+    {
+        if(year < MIN_YEAR || year > MAX_YEAR)
+            return Year.of(year);
+
+        Year value = YEARS[year - MIN_YEAR];
+        if(value == null)
+            YEARS[year - MIN_YEAR] = value = Year.of(year);
+        return value;
+    }
+
+    /**
+     * Returns the year-month, which must be within {@link #MIN_YEAR} and {@link #MAX_YEAR}.
+     */
+    static YearMonth yearMonth(int year, int month)
+    {
+        int index = (year - MIN_YEAR) * 12 + month - 1;
+        YearMonth value = YEAR_MONTHS[index];
+        if(value == null)
+            YEAR_MONTHS[index] = value = YearMonth.of(year, month);
+        return value;
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code date}, which becomes the canonical instance itself if there is
+     * none yet, or {@code date} if it is outside the window.
+     */
+    static LocalDate localDate(LocalDate date)
+    {
+        long index = date.toEpochDay() - LocalDates.FIRST_DAY;
+        if(index < 0 || index >= LocalDates.TABLE.length)
+            return date;
+
+        LocalDate value = LocalDates.TABLE[(int) index];
+        if(value == null)
+            LocalDates.TABLE[(int) index] = value = date;
+        return value;
+    }
+}
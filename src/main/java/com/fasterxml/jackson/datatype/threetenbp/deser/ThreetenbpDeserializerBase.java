@@ -38,6 +38,26 @@ abstract class ThreetenbpDeserializerBase<T> extends StdScalarDeserializer<T>
         super(supportedType);
     }
 
+    /**
+     * Returns the index of the first character at or after {@code start} that {@link String#trim()} would keep.
+     */
+    protected static int trimStart(char[] buffer, int start, int end)
+    {
+        while(start < end && buffer[start] <= ' ')
+            start++;
+        return start;
+    }
+
+    /**
+     * Returns the index just past the last character before {@code end} that {@link String#trim()} would keep.
+     */
+    protected static int trimEnd(char[] buffer, int start, int end)
+    {
+        while(end > start && buffer[end - 1] <= ' ')
+            end--;
+        return end;
+    }
+
     @Override
     public Object deserializeWithType(JsonParser parser, DeserializationContext context, TypeDeserializer deserializer)
             throws IOException
@@ -38,6 +38,11 @@ public abstract class ThreetenbpStringParsableDeserializer<T> extends Threetenbp
                 public MonthDay parse(String s) {
                     return MonthDay.parse(s);
                 }
+
+                MonthDay parse(char[] text, int start, int end) {
+                    MonthDay value = IsoDateTimeParser.parseMonthDay(text, start, end);
+                    return value == null ? this.parse(new String(text, start, end - start)) : value;
+                }
             };
 
     public static final ThreetenbpStringParsableDeserializer<Period> PERIOD =
@@ -52,6 +57,11 @@ public abstract class ThreetenbpStringParsableDeserializer<T> extends Threetenbp
                 public YearMonth parse(String s) {
                     return YearMonth.parse(s);
                 }
+
+                YearMonth parse(char[] text, int start, int end) {
+                    YearMonth value = IsoDateTimeParser.parseYearMonth(text, start, end);
+                    return value == null ? this.parse(new String(text, start, end - start)) : value;
+                }
             };
 
     public static final ThreetenbpStringParsableDeserializer<ZoneId> ZONE_ID =
@@ -59,6 +69,11 @@ public abstract class ThreetenbpStringParsableDeserializer<T> extends Threetenbp
                 public ZoneId parse(String s) {
                     return ZoneId.of(s);
                 }
+
+                ZoneId parse(char[] text, int start, int end) {
+                    ZoneId zone = ZoneIdCache.ZONE_IDS.get(text, start, end);
+                    return zone == null ? this.parse(new String(text, start, end - start)) : zone;
+                }
             };
 
     public static final ThreetenbpStringParsableDeserializer<ZoneOffset> ZONE_OFFSET =
@@ -66,6 +81,11 @@ public abstract class ThreetenbpStringParsableDeserializer<T> extends Threetenbp
                 public ZoneOffset parse(String s) {
                     return ZoneOffset.of(s);
                 }
+
+                ZoneOffset parse(char[] text, int start, int end) {
+                    ZoneOffset zone = ZoneIdCache.ZONE_OFFSETS.get(text, start, end);
+                    return zone == null ? this.parse(new String(text, start, end - start)) : zone;
+                }
             };
 
     private ThreetenbpStringParsableDeserializer(Class<T> supportedType)
@@ -75,12 +95,25 @@ public abstract class ThreetenbpStringParsableDeserializer<T> extends Threetenbp
 
     public abstract T parse(String s);
 
+    /**
+     * Parses the characters between {@code start} and {@code end}. By default this goes through
+     * {@link #parse(String)}; zones and the common month-days and year-months are instead looked up in caches, which
+     * also makes repeated values share one instance.
+     */
+    T parse(char[] text, int start, int end)
+    {
+        return this.parse(new String(text, start, end - start));
+    }
+
     @Override
     public T deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
-        String string = parser.getText().trim();
-        if(string.length() == 0)
+        char[] buffer = parser.getTextCharacters();
+        int start = parser.getTextOffset();
+        int end = trimEnd(buffer, start, start + parser.getTextLength());
+        start = trimStart(buffer, start, end);
+        if(start == end)
             return null;
-        return parse(string);
+        return this.parse(buffer, start, end);
     }
 }
@@ -42,6 +42,6 @@ public class YearDeserializer extends ThreetenbpDeserializerBase<Year>
     @Override
     public Year deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
-        return Year.of(parser.getIntValue());
+        return TemporalTables.year(parser.getIntValue());
     }
 }
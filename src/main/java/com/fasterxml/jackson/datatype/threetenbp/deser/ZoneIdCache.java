@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.deser;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * Small, bounded cache from zone ID text to resolved zones. It is a direct-mapped table of immutable entries, so
+ * lookups need no locking and no {@link String} is created on a hit; on a collision the newer entry simply replaces
+ * the older one.
+ *
+ * @since 2.3.3
+ */
+abstract class ZoneIdCache<Z extends ZoneId>
+{
+    /**
+     * Zone IDs as understood by {@link ZoneId#of}.
+     */
+    static final ZoneIdCache<ZoneId> ZONE_IDS = new ZoneIdCache<ZoneId>() {
+        @Override
+        ZoneId resolve(String id) {
+            return ZoneId.of(id);
+        }
+    };
+
+    /**
+     * Offset IDs as understood by {@link ZoneOffset#of}.
+     */
+    static final ZoneIdCache<ZoneOffset> ZONE_OFFSETS = new ZoneIdCache<ZoneOffset>() {
+        @Override
+        ZoneOffset resolve(String id) {
+            return ZoneOffset.of(id);
+        }
+    };
+
+    private static final int SIZE = 256;
+
+    private final Entry<Z>[] entries;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ZoneIdCache()
+    {
+        this.entries = new Entry[SIZE];
+    }
+
+    /**
+     * Resolves an ID that is not in the cache.
+     *
+     * @throws DateTimeException if the ID is not valid.
+     */
+    abstract Z resolve(String id);
+
+    /**
+     * Returns the zone for the characters between {@code start} and {@code end}, or {@code null} if they are not a
+     * valid ID.
+     */
+    Z get(char[] text, int start, int end)
+    {
+        int hash = 0;
+        for(int i = start; i < end; i++)
+            hash = 31 * hash + text[i];
+
+        int index = (hash ^ (hash >>> 16)) & (SIZE - 1);
+        Entry<Z> entry = this.entries[index];
+        if(entry != null && entry.hash == hash && entry.matches(text, start, end))
+            return entry.zone;
+
+        String id = new String(text, start, end - start);
+        Z zone;
+        try
+        {
+            zone = this.resolve(id);
+        }
+        catch(DateTimeException e)
+        {
+            return null;
+        }
+        this.entries[index] = new Entry<Z>(id, hash, zone);
+        return zone;
+    }
+
+    /**
+     * Returns the zone for {@code id}.
+     *
+     * @throws DateTimeException if the ID is not valid.
+     */
+    Z get(String id)
+    {
+        // String hashes use the same function as the character lookup
+        int hash = id.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (SIZE - 1);
+        Entry<Z> entry = this.entries[index];
+        if(entry != null && entry.hash == hash && entry.id.equals(id))
+            return entry.zone;
+
+        Z zone = this.resolve(id);
+        this.entries[index] = new Entry<Z>(id, hash, zone);
+        return zone;
+    }
+
+    private static final class Entry<Z>
+    {
+        final String id;
+        final int hash;
+        final Z zone;
+
+        Entry(String id, int hash, Z zone)
+        {
+            this.id = id;
+            this.hash = hash;
+            this.zone = zone;
+        }
+
+        boolean matches(char[] text, int start, int end)
+        {
+            if(this.id.length() != end - start)
+                return false;
+            for(int i = start; i < end; i++)
+            {
+                if(this.id.charAt(i - start) != text[i])
+                    return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.deser;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * Remembers, per zone, the most recently used span between two offset transitions, so that runs of timestamps
+ * close to each other are resolved without searching the zone's rules each time. Like {@link ZoneIdCache}, it is a
+ * small direct-mapped table of immutable entries.
+ *
+ * @since 2.3.3
+ */
+final class ZoneOffsetWindows
+{
+    private static final int SIZE = 64;
+
+    private static final Window[] WINDOWS = new Window[SIZE];
+
+    private ZoneOffsetWindows()
+    {
+        throw new RuntimeException("ZoneOffsetWindows cannot be instantiated.");
+    }
+
+    /**
+     * Returns the same offset as {@code zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond))}.
+     */
+    static ZoneOffset forInstant(ZoneId zone, long epochSecond)
+    {
+        if(zone instanceof ZoneOffset)
+            return (ZoneOffset) zone;
+
+        int index = indexOf(zone);
+        Window window = WINDOWS[index];
+        if(window == null || epochSecond < window.start || epochSecond >= window.end || !window.zone.equals(zone))
+        {
+            window = Window.around(zone, epochSecond);
+            WINDOWS[index] = window;
+        }
+        return window.offset;
+    }
+
+    /**
+     * Returns the same offset as {@code zone.getRules().getOffset(dateTime)}.
+     */
+    static ZoneOffset forLocal(ZoneId zone, LocalDateTime dateTime)
+    {
+        if(zone instanceof ZoneOffset)
+            return (ZoneOffset) zone;
+
+        long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        int index = indexOf(zone);
+        Window window = WINDOWS[index];
+        if(window != null && localSecond >= window.localStart && localSecond < window.localEnd &&
+                window.zone.equals(zone))
+            return window.offset;
+
+        // gaps and overlaps are never inside a window, so leave them to the rules
+        ZoneOffset offset = zone.getRules().getOffset(dateTime);
+        WINDOWS[index] = Window.around(zone, localSecond - offset.getTotalSeconds());
+        return offset;
+    }
+
+    private static int indexOf(ZoneId zone)
+    {
+        int hash = zone.hashCode();
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    private static final class Window
+    {
+        final ZoneId zone;
+        final ZoneOffset offset;
+
+        /**
+         * The epoch seconds during which the offset applies, the end exclusive.
+         */
+        final long start, end;
+
+        /**
+         * The local date-times, as epoch seconds in UTC, that map to exactly one instant with the offset, the end
+         * exclusive.
+         */
+        final long localStart, localEnd;
+
+        private Window(ZoneId zone, ZoneOffset offset, long start, long end, long localStart, long localEnd)
+        {
+            this.zone = zone;
+            this.offset = offset;
+            this.start = start;
+            this.end = end;
+            this.localStart = localStart;
+            this.localEnd = localEnd;
+        }
+
+        static Window around(ZoneId zone, long epochSecond)
+        {
+            ZoneRules rules = zone.getRules();
+            ZoneOffset offset = rules.getOffset(Instant.ofEpochSecond(epochSecond));
+            if(rules.isFixedOffset())
+                return new Window(zone, offset, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+
+            long start = Long.MIN_VALUE, end = Long.MAX_VALUE, localStart = Long.MIN_VALUE, localEnd = Long.MAX_VALUE;
+            ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+            if(previous != null)
+            {
+                start = previous.toEpochSecond();
+                localStart = start + Math.max(previous.getOffsetBefore().getTotalSeconds(), offset.getTotalSeconds());
+            }
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+            if(next != null)
+            {
+                end = next.toEpochSecond();
+                localEnd = end + Math.min(next.getOffsetAfter().getTotalSeconds(), offset.getTotalSeconds());
+            }
+            return new Window(zone, offset, start, end, localStart, localEnd);
+        }
+    }
+}
@@ -17,9 +17,12 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.DecimalUtils;
+import com.fasterxml.jackson.datatype.threetenbp.IntegerTimestamps;
 
 import java.io.IOException;
 import org.threeten.bp.Duration;
@@ -30,34 +33,139 @@ import org.threeten.bp.Duration;
  * @author Nick Williams
  * @since 2.2.0
  */
-public class DurationSerializer extends ThreetenbpSerializerBase<Duration>
+public class DurationSerializer extends ThreetenbpSerializerBase<Duration> implements ContextualSerializer
 {
-    public static final DurationSerializer INSTANCE = new DurationSerializer();
+    public static final DurationSerializer INSTANCE = new DurationSerializer(null, false);
 
-    private DurationSerializer()
+    private final IntegerTimestamps timestamps;
+
+    private final boolean shortest;
+
+    private DurationSerializer(IntegerTimestamps timestamps, boolean shortest)
     {
         super(Duration.class);
+        this.timestamps = timestamps;
+        this.shortest = shortest;
+    }
+
+    /**
+     * Returns a serializer that writes timestamps as integers in the unit of the given kind, or as before if it is
+     * {@code null}.
+     *
+     * @since 2.3.3
+     */
+    public DurationSerializer withIntegerTimestamps(IntegerTimestamps timestamps)
+    {
+        return timestamps == this.timestamps ? this : new DurationSerializer(timestamps, this.shortest);
+    }
+
+    /**
+     * Returns a serializer that writes decimal timestamps in their shortest exact form, with no trailing zeros but at
+     * least one fraction digit, or with all nine fraction digits like this one by default.
+     *
+     * @since 2.3.3
+     */
+    public DurationSerializer withShortestDecimals(boolean shortest)
+    {
+        return shortest == this.shortest ? this : new DurationSerializer(this.timestamps, shortest);
+    }
+
+    /**
+     * Returns a variant that writes only the shape the features of the provider ask for now.
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+    {
+        int shape = shapeOf(provider);
+        return shape == STRINGS ? new Strings(this) : new Timestamps(this, shape);
     }
 
     @Override
     public void serialize(Duration duration, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+        int shape = shapeOf(provider);
+        if(shape == STRINGS)
+            this.writeString(duration, generator);
+        else
+            this.writeTimestamp(duration, generator, shape == NANOSECOND_TIMESTAMPS);
+    }
+
+    final void writeTimestamp(Duration duration, JsonGenerator generator, boolean nanoseconds) throws IOException
+    {
+        if(this.timestamps != null)
         {
-            if(provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS))
+            generator.writeNumber(this.timestamps.toTimestamp(duration));
+        }
+        else if(nanoseconds)
+        {
+            OutputBuffer buffer = new OutputBuffer();
+            if(this.shortest)
             {
-                generator.writeNumber(DecimalUtils.toDecimal(
-                        duration.getSeconds(), duration.getNano()
+                buffer.writeNumber(generator, DecimalUtils.toShortestDecimal(
+                        duration.getSeconds(), duration.getNano(), buffer.chars, 0
                 ));
             }
             else
             {
-                generator.writeNumber(duration.toMillis());
+                buffer.writeNumber(generator, DecimalUtils.toDecimal(
+                        duration.getSeconds(), duration.getNano(), buffer.chars, 0
+                ));
             }
         }
         else
         {
-            generator.writeString(duration.toString());
+            generator.writeNumber(duration.toMillis());
+        }
+    }
+
+    final void writeString(Duration duration, JsonGenerator generator) throws IOException
+    {
+        generator.writeString(duration.toString());
+    }
+
+    /**
+     * Writes strings, or falls back to the features of the provider when they no longer ask for strings.
+     */
+    private static final class Strings extends DurationSerializer
+    {
+        private Strings(DurationSerializer base)
+        {
+            super(base.timestamps, base.shortest);
+        }
+
+        @Override
+        public void serialize(Duration duration, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
+        {
+            if(shapeOf(provider) == STRINGS)
+                this.writeString(duration, generator);
+            else
+                super.serialize(duration, generator, provider);
+        }
+    }
+
+    /**
+     * Writes timestamps in the unit it was created for, or falls back to the features of the provider when they no
+     * longer ask for that.
+     */
+    private static final class Timestamps extends DurationSerializer
+    {
+        private final int shape;
+
+        private Timestamps(DurationSerializer base, int shape)
+        {
+            super(base.timestamps, base.shortest);
+            this.shape = shape;
+        }
+
+        @Override
+        public void serialize(Duration duration, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
+        {
+            if(shapeOf(provider) == this.shape)
+                this.writeTimestamp(duration, generator, this.shape == NANOSECOND_TIMESTAMPS);
+            else
+                super.serialize(duration, generator, provider);
         }
     }
 }
@@ -17,9 +17,12 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import com.fasterxml.jackson.datatype.threetenbp.DecimalUtils;
+import com.fasterxml.jackson.datatype.threetenbp.IntegerTimestamps;
 
 import java.io.IOException;
 import org.threeten.bp.Instant;
@@ -34,52 +37,31 @@ import org.threeten.bp.temporal.Temporal;
  * @since 2.2.0
  */
 public abstract class InstantSerializer<T extends Temporal> extends ThreetenbpSerializerBase<T>
+        implements ContextualSerializer
 {
-    public static final InstantSerializer<Instant> INSTANT =
-            new InstantSerializer<Instant>(Instant.class) {
-                long getEpochMillis(Instant instant) {
-                    return instant.toEpochMilli();
-                }
-
-                long getEpochSeconds(Instant instant) {
-                    return instant.getEpochSecond();
-                }
-
-                int getNanoseconds(Instant instant) {
-                    return instant.getNano();
-                }
-            };
-
-    public static final InstantSerializer<OffsetDateTime> OFFSET_DATE_TIME =
-            new InstantSerializer<OffsetDateTime>(OffsetDateTime.class) {
-                long getEpochMillis(OffsetDateTime dt) {
-                    return dt.toInstant().toEpochMilli();
-                }
-
-                long getEpochSeconds(OffsetDateTime dt) {
-                    return dt.toEpochSecond();
-                }
-
-                int getNanoseconds(OffsetDateTime dt) {
-                    return dt.getNano();
-                }
-            };
-
-
-    public static final InstantSerializer<ZonedDateTime> ZONED_DATE_TIME =
-            new InstantSerializer<ZonedDateTime>(ZonedDateTime.class) {
-                long getEpochMillis(ZonedDateTime dt) {
-                    return dt.toInstant().toEpochMilli();
-                }
-
-                long getEpochSeconds(ZonedDateTime dt) {
-                    return dt.toEpochSecond();
-                }
-
-                int getNanoseconds(ZonedDateTime dt) {
-                    return dt.getNano();
-                }
-            };
+    public static final InstantSerializer<Instant> INSTANT = new OfInstant(null, 0);
+
+    public static final InstantSerializer<OffsetDateTime> OFFSET_DATE_TIME = new OfOffsetDateTime(null, 0);
+
+    public static final InstantSerializer<ZonedDateTime> ZONED_DATE_TIME = new OfZonedDateTime(null, 0);
+
+    private static final int SHORTEST_DECIMALS = 1;
+
+    private static final int FIXED_WIDTH_STRINGS = 2;
+
+    private static final int BASIC_STRINGS = 4;
+
+    private final IntegerTimestamps timestamps;
+
+    /**
+     * The bits of the decimal and string forms chosen through the {@code with} methods.
+     */
+    private final int options;
+
+    /**
+     * Returns an otherwise identical serializer for the given integer timestamps and options.
+     */
+    abstract InstantSerializer<T> with(IntegerTimestamps timestamps, int options);
 
     abstract long getEpochMillis(T t);
 
@@ -87,30 +69,340 @@ public abstract class InstantSerializer<T extends Temporal> extends ThreetenbpSe
 
     abstract int getNanoseconds(T t);
 
-    private InstantSerializer(Class<T> supportedType)
+    /**
+     * Returns the local date-time as epoch seconds in UTC.
+     */
+    abstract long getLocalSeconds(T t);
+
+    /**
+     * Writes what follows the local date-time in {@code toString()}, or in the basic form, returning the offset past
+     * it, or -1 if it does not fit.
+     */
+    abstract int writeZone(T t, boolean basic, char[] buffer, int offset);
+
+    private InstantSerializer(Class<T> supportedType, IntegerTimestamps timestamps, int options)
     {
         super(supportedType);
+        this.timestamps = timestamps;
+        this.options = options;
+    }
+
+    /**
+     * Returns a serializer that writes timestamps as integers of the given kind, or as before if it is {@code null}.
+     *
+     * @since 2.3.3
+     */
+    public InstantSerializer<T> withIntegerTimestamps(IntegerTimestamps timestamps)
+    {
+        return timestamps == this.timestamps ? this : this.with(timestamps, this.options);
+    }
+
+    /**
+     * Returns a serializer that writes decimal timestamps in their shortest exact form, with no trailing zeros but at
+     * least one fraction digit, or with all nine fraction digits like this one by default.
+     *
+     * @since 2.3.3
+     */
+    public InstantSerializer<T> withShortestDecimals(boolean shortest)
+    {
+        return this.withOption(SHORTEST_DECIMALS, shortest);
+    }
+
+    /**
+     * Returns a serializer that writes strings with the date-time at a fixed width, always with the seconds and all
+     * nine fraction digits, or with them trimmed like {@code toString()} by default. The offset or zone follows as
+     * usual.
+     *
+     * @since 2.3.3
+     */
+    public InstantSerializer<T> withFixedWidthStrings(boolean fixedWidth)
+    {
+        return this.withOption(FIXED_WIDTH_STRINGS, fixedWidth);
+    }
+
+    /**
+     * Returns a serializer that writes strings in the ISO-8601 basic form, like {@code 20140215T101010.123Z} with
+     * offsets like {@code +0100}, or in the extended form of {@code toString()} by default. The seconds are always
+     * written. Date-times outside the years {@code 0000-9999} are still written in the extended form.
+     *
+     * @since 2.3.3
+     */
+    public InstantSerializer<T> withBasicStrings(boolean basic)
+    {
+        return this.withOption(BASIC_STRINGS, basic);
+    }
+
+    private InstantSerializer<T> withOption(int option, boolean state)
+    {
+        int options = state ? this.options | option : this.options & ~option;
+        return options == this.options ? this : this.with(this.timestamps, options);
+    }
+
+    /**
+     * Returns a variant that writes only the shape the features of the provider ask for now.
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+    {
+        int shape = shapeOf(provider);
+        return shape == STRINGS ? new Strings<T>(this) : new Timestamps<T>(this, shape);
     }
 
     @Override
     public void serialize(T instant, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+        int shape = shapeOf(provider);
+        if(shape == STRINGS)
+            this.writeString(instant, generator);
+        else
+            this.writeTimestamp(instant, generator, shape == NANOSECOND_TIMESTAMPS);
+    }
+
+    final void writeTimestamp(T instant, JsonGenerator generator, boolean nanoseconds) throws IOException
+    {
+        if(this.timestamps != null)
         {
-            if(provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS))
+            generator.writeNumber(this.timestamps.toTimestamp(
+                    this.getEpochSeconds(instant), this.getNanoseconds(instant)
+            ));
+        }
+        else if(nanoseconds)
+        {
+            OutputBuffer buffer = new OutputBuffer();
+            if((this.options & SHORTEST_DECIMALS) != 0)
             {
-                generator.writeNumber(DecimalUtils.toDecimal(
-                        this.getEpochSeconds(instant), this.getNanoseconds(instant)
+                buffer.writeNumber(generator, DecimalUtils.toShortestDecimal(
+                        this.getEpochSeconds(instant), this.getNanoseconds(instant), buffer.chars, 0
                 ));
             }
             else
             {
-                generator.writeNumber(this.getEpochMillis(instant));
+                buffer.writeNumber(generator, DecimalUtils.toDecimal(
+                        this.getEpochSeconds(instant), this.getNanoseconds(instant), buffer.chars, 0
+                ));
             }
         }
         else
         {
+            generator.writeNumber(this.getEpochMillis(instant));
+        }
+    }
+
+    final void writeString(T instant, JsonGenerator generator) throws IOException
+    {
+        OutputBuffer buffer = new OutputBuffer();
+        long localSeconds = this.getLocalSeconds(instant);
+        boolean fixedWidth = (this.options & FIXED_WIDTH_STRINGS) != 0;
+        boolean basic = (this.options & BASIC_STRINGS) != 0 && IsoDateTimeWriter.isBasicSecond(localSeconds);
+        int length;
+        if(basic)
+        {
+            length = IsoDateTimeWriter.writeBasicDateTime(localSeconds, this.getNanoseconds(instant),
+                    fixedWidth, buffer.chars, 0);
+        }
+        else
+        {
+            length = buffer.writeSecondPrefix(localSeconds);
+            if(fixedWidth)
+                length = IsoDateTimeWriter.writeFixedNanos(this.getNanoseconds(instant), buffer.chars, length);
+            else
+                length = IsoDateTimeWriter.writeNanos(localSeconds, this.getNanoseconds(instant),
+                        buffer.chars, length);
+        }
+        length = this.writeZone(instant, basic, buffer.chars, length);
+        if(length < 0)
             generator.writeString(instant.toString());
+        else
+            buffer.writeString(generator, length);
+    }
+
+    /**
+     * Base of the variants returned by {@link #createContextual}, which leaves the parts that depend on the type to
+     * the serializer it was created from.
+     */
+    private static abstract class Shaped<T extends Temporal> extends InstantSerializer<T>
+    {
+        private final InstantSerializer<T> base;
+
+        private Shaped(InstantSerializer<T> base)
+        {
+            super(base.handledType(), base.timestamps, base.options);
+            this.base = base;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        {
+            return this.base.createContextual(provider, property);
+        }
+
+        @Override
+        InstantSerializer<T> with(IntegerTimestamps timestamps, int options) {
+            return this.base.with(timestamps, options);
+        }
+
+        @Override
+        long getEpochMillis(T t) {
+            return this.base.getEpochMillis(t);
+        }
+
+        @Override
+        long getEpochSeconds(T t) {
+            return this.base.getEpochSeconds(t);
+        }
+
+        @Override
+        int getNanoseconds(T t) {
+            return this.base.getNanoseconds(t);
+        }
+
+        @Override
+        long getLocalSeconds(T t) {
+            return this.base.getLocalSeconds(t);
+        }
+
+        @Override
+        int writeZone(T t, boolean basic, char[] buffer, int offset) {
+            return this.base.writeZone(t, basic, buffer, offset);
+        }
+    }
+
+    /**
+     * Writes strings, or falls back to the features of the provider when they no longer ask for strings.
+     */
+    private static final class Strings<T extends Temporal> extends Shaped<T>
+    {
+        private Strings(InstantSerializer<T> base)
+        {
+            super(base);
+        }
+
+        @Override
+        public void serialize(T instant, JsonGenerator generator, SerializerProvider provider) throws IOException
+        {
+            if(shapeOf(provider) == STRINGS)
+                this.writeString(instant, generator);
+            else
+                super.serialize(instant, generator, provider);
+        }
+    }
+
+    /**
+     * Writes timestamps in the unit it was created for, or falls back to the features of the provider when they no
+     * longer ask for that.
+     */
+    private static final class Timestamps<T extends Temporal> extends Shaped<T>
+    {
+        private final int shape;
+
+        private Timestamps(InstantSerializer<T> base, int shape)
+        {
+            super(base);
+            this.shape = shape;
+        }
+
+        @Override
+        public void serialize(T instant, JsonGenerator generator, SerializerProvider provider) throws IOException
+        {
+            if(shapeOf(provider) == this.shape)
+                this.writeTimestamp(instant, generator, this.shape == NANOSECOND_TIMESTAMPS);
+            else
+                super.serialize(instant, generator, provider);
+        }
+    }
+
+    private static final class OfInstant extends InstantSerializer<Instant>
+    {
+        private OfInstant(IntegerTimestamps timestamps, int options) {
+            super(Instant.class, timestamps, options);
+        }
+
+        InstantSerializer<Instant> with(IntegerTimestamps timestamps, int options) {
+            return new OfInstant(timestamps, options);
+        }
+
+        long getEpochMillis(Instant instant) {
+            return instant.toEpochMilli();
+        }
+
+        long getEpochSeconds(Instant instant) {
+            return instant.getEpochSecond();
+        }
+
+        int getNanoseconds(Instant instant) {
+            return instant.getNano();
+        }
+
+        long getLocalSeconds(Instant instant) {
+            return instant.getEpochSecond();
+        }
+
+        int writeZone(Instant instant, boolean basic, char[] buffer, int offset) {
+            buffer[offset] = 'Z';
+            return offset + 1;
+        }
+    }
+
+    private static final class OfOffsetDateTime extends InstantSerializer<OffsetDateTime>
+    {
+        private OfOffsetDateTime(IntegerTimestamps timestamps, int options) {
+            super(OffsetDateTime.class, timestamps, options);
+        }
+
+        InstantSerializer<OffsetDateTime> with(IntegerTimestamps timestamps, int options) {
+            return new OfOffsetDateTime(timestamps, options);
+        }
+
+        long getEpochMillis(OffsetDateTime dt) {
+            return dt.toInstant().toEpochMilli();
+        }
+
+        long getEpochSeconds(OffsetDateTime dt) {
+            return dt.toEpochSecond();
+        }
+
+        int getNanoseconds(OffsetDateTime dt) {
+            return dt.getNano();
+        }
+
+        long getLocalSeconds(OffsetDateTime dt) {
+            return dt.toEpochSecond() + dt.getOffset().getTotalSeconds();
+        }
+
+        int writeZone(OffsetDateTime dt, boolean basic, char[] buffer, int offset) {
+            return basic ? IsoDateTimeWriter.writeBasicOffset(dt.getOffset(), buffer, offset) :
+                    IsoDateTimeWriter.writeOffset(dt.getOffset(), buffer, offset);
+        }
+    }
+
+    private static final class OfZonedDateTime extends InstantSerializer<ZonedDateTime>
+    {
+        private OfZonedDateTime(IntegerTimestamps timestamps, int options) {
+            super(ZonedDateTime.class, timestamps, options);
+        }
+
+        InstantSerializer<ZonedDateTime> with(IntegerTimestamps timestamps, int options) {
+            return new OfZonedDateTime(timestamps, options);
+        }
+
+        long getEpochMillis(ZonedDateTime dt) {
+            return dt.toInstant().toEpochMilli();
+        }
+
+        long getEpochSeconds(ZonedDateTime dt) {
+            return dt.toEpochSecond();
+        }
+
+        int getNanoseconds(ZonedDateTime dt) {
+            return dt.getNano();
+        }
+
+        long getLocalSeconds(ZonedDateTime dt) {
+            return dt.toEpochSecond() + dt.getOffset().getTotalSeconds();
+        }
+
+        int writeZone(ZonedDateTime dt, boolean basic, char[] buffer, int offset) {
+            return IsoDateTimeWriter.writeZone(dt, basic, buffer, offset);
         }
     }
 }
@@ -0,0 +1,468 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.io.NumberOutput;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+
+/**
+ * Formats temporals into a character buffer, producing exactly the text of their {@code toString()} methods, or the
+ * fixed-width or ISO-8601 basic variants of it. Each method writes at {@code offset} and returns the offset just past
+ * the last character written. The buffer must have room for {@link #MAX_LENGTH} characters after {@code offset}.
+ *
+ * @since 2.3.3
+ */
+final class IsoDateTimeWriter
+{
+    /**
+     * The longest text written for anything but a zone region: {@code +1000000000-12-31T23:59:59.999999999+18:00:00}.
+     */
+    static final int MAX_LENGTH = 45;
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private static final int DAYS_PER_CYCLE = 146_097;
+
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private static final int SECONDS_PER_QUARTER_HOUR = 900;
+
+    /**
+     * The local date-times, as epoch seconds in UTC, of the years {@code 0000-9999}, the end exclusive. Only their
+     * years fit the four digits of the basic form.
+     */
+    private static final long MIN_BASIC_SECOND = -62_167_219_200L, MAX_BASIC_SECOND = 253_402_300_800L;
+
+    /**
+     * The IDs of all offsets that are a whole number of quarter hours, indexed by quarter hours plus 72.
+     */
+    private static final char[][] OFFSETS = new char[145][];
+
+    static
+    {
+        for(int i = 0; i < OFFSETS.length; i++)
+            OFFSETS[i] = ZoneOffset.ofTotalSeconds((i - 72) * SECONDS_PER_QUARTER_HOUR).getId().toCharArray();
+    }
+
+    private IsoDateTimeWriter()
+    {
+        throw new RuntimeException("IsoDateTimeWriter cannot be instantiated.");
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd}, like {@link LocalDate#toString()}.
+     */
+    static int writeLocalDate(LocalDate date, char[] buffer, int offset)
+    {
+        return writeDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), buffer, offset);
+    }
+
+    /**
+     * Writes {@code HH:mm[:ss[.fff]]}, like {@link LocalTime#toString()}.
+     */
+    static int writeLocalTime(LocalTime time, char[] buffer, int offset)
+    {
+        return writeTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), buffer, offset);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-ddTHH:mm[:ss[.fff]]}, like {@link LocalDateTime#toString()}.
+     */
+    static int writeLocalDateTime(LocalDateTime dateTime, char[] buffer, int offset)
+    {
+        offset = writeDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), buffer, offset);
+        buffer[offset++] = 'T';
+        return writeTime(dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(),
+                buffer, offset);
+    }
+
+    /**
+     * Writes the local time followed by the offset ID, like {@link OffsetTime#toString()}.
+     */
+    static int writeOffsetTime(OffsetTime time, char[] buffer, int offset)
+    {
+        offset = writeTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), buffer, offset);
+        return writeOffset(time.getOffset(), buffer, offset);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-ddTHH:mm:ss} for a local date-time given as epoch seconds in UTC. {@link #writeNanos}
+     * completes it into the text of {@link LocalDateTime#toString()}.
+     */
+    static int writeSecondPrefix(long localSecond, char[] buffer, int offset)
+    {
+        long epochDay = localSecond / SECONDS_PER_DAY;
+        int secondOfDay = (int) (localSecond % SECONDS_PER_DAY);
+        if(secondOfDay < 0)
+        {
+            epochDay--;
+            secondOfDay += SECONDS_PER_DAY;
+        }
+
+        offset = writeEpochDay(epochDay, false, buffer, offset);
+        buffer[offset++] = 'T';
+        offset = write2Digits(secondOfDay / 3_600, buffer, offset);
+        buffer[offset++] = ':';
+        offset = write2Digits(secondOfDay / 60 % 60, buffer, offset);
+        buffer[offset++] = ':';
+        return write2Digits(secondOfDay % 60, buffer, offset);
+    }
+
+    /**
+     * Completes the text written by {@link #writeSecondPrefix}, ending at {@code offset}: takes {@code :ss} back out
+     * if both seconds and nanoseconds are zero, and otherwise appends the fraction unless the nanoseconds are zero.
+     */
+    static int writeNanos(long localSecond, int nano, char[] buffer, int offset)
+    {
+        if(nano == 0)
+            return localSecond % 60 == 0 ? offset - 3 : offset;
+        buffer[offset++] = '.';
+        return writeFraction(nano, buffer, offset);
+    }
+
+    /**
+     * Completes the text written by {@link #writeSecondPrefix} at a fixed width: appends the fraction with all nine
+     * digits, even if the nanoseconds are zero.
+     */
+    static int writeFixedNanos(int nano, char[] buffer, int offset)
+    {
+        buffer[offset++] = '.';
+        return writeDigits(nano, 9, buffer, offset);
+    }
+
+    /**
+     * Writes {@code HH:mm:ss.fffffffff}, always 18 characters.
+     */
+    static int writeFixedLocalTime(LocalTime time, char[] buffer, int offset)
+    {
+        return writeFixedTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), buffer, offset);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-ddTHH:mm:ss.fffffffff}, always 29 characters for the years {@code 0000-9999}.
+     */
+    static int writeFixedLocalDateTime(LocalDateTime dateTime, char[] buffer, int offset)
+    {
+        offset = writeDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), buffer, offset);
+        buffer[offset++] = 'T';
+        return writeFixedTime(dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(),
+                buffer, offset);
+    }
+
+    /**
+     * Writes the fixed-width local time followed by the offset ID.
+     */
+    static int writeFixedOffsetTime(OffsetTime time, char[] buffer, int offset)
+    {
+        offset = writeFixedTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), buffer, offset);
+        return writeOffset(time.getOffset(), buffer, offset);
+    }
+
+    /**
+     * Returns whether a date can be written in the basic form, which has exactly four digits for the year.
+     */
+    static boolean isBasicYear(int year)
+    {
+        return year >= 0 && year < 10_000;
+    }
+
+    /**
+     * Returns whether a local date-time, given as epoch seconds in UTC, can be written in the basic form.
+     */
+    static boolean isBasicSecond(long localSecond)
+    {
+        return localSecond >= MIN_BASIC_SECOND && localSecond < MAX_BASIC_SECOND;
+    }
+
+    /**
+     * Writes {@code yyyyMMdd}, for dates whose {@link #isBasicYear year fits}.
+     */
+    static int writeBasicLocalDate(LocalDate date, char[] buffer, int offset)
+    {
+        return writeBasicDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), buffer, offset);
+    }
+
+    /**
+     * Writes {@code HHmmss[.fff]}, or {@code HHmmss.fffffffff} at a fixed width.
+     */
+    static int writeBasicLocalTime(LocalTime time, boolean fixedWidth, char[] buffer, int offset)
+    {
+        return writeBasicTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), fixedWidth,
+                buffer, offset);
+    }
+
+    /**
+     * Writes {@code yyyyMMddTHHmmss[.fff]}, for date-times whose {@link #isBasicYear year fits}.
+     */
+    static int writeBasicLocalDateTime(LocalDateTime dateTime, boolean fixedWidth, char[] buffer, int offset)
+    {
+        offset = writeBasicDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), buffer,
+                offset);
+        buffer[offset++] = 'T';
+        return writeBasicTime(dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(),
+                fixedWidth, buffer, offset);
+    }
+
+    /**
+     * Writes the basic local time followed by the basic offset.
+     */
+    static int writeBasicOffsetTime(OffsetTime time, boolean fixedWidth, char[] buffer, int offset)
+    {
+        offset = writeBasicTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), fixedWidth,
+                buffer, offset);
+        return writeBasicOffset(time.getOffset(), buffer, offset);
+    }
+
+    /**
+     * Writes {@code yyyyMMddTHHmmss[.fff]} for a local date-time given as epoch seconds in UTC, which must be
+     * {@link #isBasicSecond in range}.
+     */
+    static int writeBasicDateTime(long localSecond, int nano, boolean fixedWidth, char[] buffer, int offset)
+    {
+        long epochDay = localSecond / SECONDS_PER_DAY;
+        int secondOfDay = (int) (localSecond % SECONDS_PER_DAY);
+        if(secondOfDay < 0)
+        {
+            epochDay--;
+            secondOfDay += SECONDS_PER_DAY;
+        }
+
+        offset = writeEpochDay(epochDay, true, buffer, offset);
+        buffer[offset++] = 'T';
+        return writeBasicTime(secondOfDay / 3_600, secondOfDay / 60 % 60, secondOfDay % 60, nano, fixedWidth,
+                buffer, offset);
+    }
+
+    /**
+     * Writes {@code Z} for UTC and otherwise {@code +HHmm}, or {@code +HHmmss} if the offset has seconds.
+     */
+    static int writeBasicOffset(ZoneOffset zoneOffset, char[] buffer, int offset)
+    {
+        int totalSeconds = zoneOffset.getTotalSeconds();
+        if(totalSeconds == 0)
+        {
+            buffer[offset] = 'Z';
+            return offset + 1;
+        }
+
+        buffer[offset++] = totalSeconds < 0 ? '-' : '+';
+        int absolute = Math.abs(totalSeconds);
+        offset = write2Digits(absolute / 3_600, buffer, offset);
+        offset = write2Digits(absolute / 60 % 60, buffer, offset);
+        return absolute % 60 == 0 ? offset : write2Digits(absolute % 60, buffer, offset);
+    }
+
+    /**
+     * Writes the offset ID, or the basic offset, and, if the zone is a region, the bracketed region ID, which is how
+     * {@link ZonedDateTime#toString()} ends. Returns -1 instead if the region ID does not fit into the buffer.
+     */
+    static int writeZone(ZonedDateTime dateTime, boolean basic, char[] buffer, int offset)
+    {
+        offset = basic ? writeBasicOffset(dateTime.getOffset(), buffer, offset) :
+                writeOffset(dateTime.getOffset(), buffer, offset);
+
+        ZoneId zone = dateTime.getZone();
+        if(zone != dateTime.getOffset())
+        {
+            String id = zone.getId();
+            if(offset + id.length() + 2 > buffer.length)
+                return -1;
+            buffer[offset++] = '[';
+            id.getChars(0, id.length(), buffer, offset);
+            offset += id.length();
+            buffer[offset++] = ']';
+        }
+        return offset;
+    }
+
+    static int writeOffset(ZoneOffset zoneOffset, char[] buffer, int offset)
+    {
+        int totalSeconds = zoneOffset.getTotalSeconds();
+        if(totalSeconds % SECONDS_PER_QUARTER_HOUR == 0)
+        {
+            char[] id = OFFSETS[totalSeconds / SECONDS_PER_QUARTER_HOUR + 72];
+            System.arraycopy(id, 0, buffer, offset, id.length);
+            return offset + id.length;
+        }
+
+        String id = zoneOffset.getId();
+        id.getChars(0, id.length(), buffer, offset);
+        return offset + id.length();
+    }
+
+    /**
+     * Same arithmetic as {@code LocalDate.ofEpochDay(long)}, writing the date instead of creating it.
+     */
+    private static int writeEpochDay(long epochDay, boolean basic, char[] buffer, int offset)
+    {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if(zeroDay < 0)
+        {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEstimate = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 +
+                yearEstimate / 400);
+        if(dayOfYearEstimate < 0)
+        {
+            yearEstimate--;
+            dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 +
+                    yearEstimate / 400);
+        }
+
+        int marchDayOfYear = (int) dayOfYearEstimate;
+        int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+        int year = (int) (yearEstimate + adjust + marchMonth / 10);
+        int month = (marchMonth + 2) % 12 + 1;
+        int day = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        return basic ? writeBasicDate(year, month, day, buffer, offset) : writeDate(year, month, day, buffer, offset);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd}, with years outside {@code 0000-9999} signed and as long as they need to be.
+     */
+    private static int writeDate(int year, int month, int day, char[] buffer, int offset)
+    {
+        if(year < 0 && year > -1_000)
+        {
+            buffer[offset++] = '-';
+            offset = write4Digits(-year, buffer, offset);
+        }
+        else if(year >= 0 && year < 10_000)
+        {
+            offset = write4Digits(year, buffer, offset);
+        }
+        else
+        {
+            if(year > 0)
+                buffer[offset++] = '+';
+            offset = NumberOutput.outputInt(year, buffer, offset);
+        }
+        buffer[offset++] = '-';
+        offset = write2Digits(month, buffer, offset);
+        buffer[offset++] = '-';
+        return write2Digits(day, buffer, offset);
+    }
+
+    private static int writeBasicDate(int year, int month, int day, char[] buffer, int offset)
+    {
+        offset = write4Digits(year, buffer, offset);
+        offset = write2Digits(month, buffer, offset);
+        return write2Digits(day, buffer, offset);
+    }
+
+    /**
+     * Writes {@code HH:mm}, then {@code :ss} unless both seconds and nanoseconds are zero, then the fraction in
+     * groups of three digits unless the nanoseconds are zero.
+     */
+    private static int writeTime(int hour, int minute, int second, int nano, char[] buffer, int offset)
+    {
+        offset = write2Digits(hour, buffer, offset);
+        buffer[offset++] = ':';
+        offset = write2Digits(minute, buffer, offset);
+        if(second > 0 || nano > 0)
+        {
+            buffer[offset++] = ':';
+            offset = write2Digits(second, buffer, offset);
+            if(nano > 0)
+            {
+                buffer[offset++] = '.';
+                offset = writeFraction(nano, buffer, offset);
+            }
+        }
+        return offset;
+    }
+
+    private static int writeFixedTime(int hour, int minute, int second, int nano, char[] buffer, int offset)
+    {
+        offset = write2Digits(hour, buffer, offset);
+        buffer[offset++] = ':';
+        offset = write2Digits(minute, buffer, offset);
+        buffer[offset++] = ':';
+        offset = write2Digits(second, buffer, offset);
+        buffer[offset++] = '.';
+        return writeDigits(nano, 9, buffer, offset);
+    }
+
+    /**
+     * Writes {@code HHmmss}, then the fraction with all nine digits if at a fixed width, or otherwise in groups of
+     * three digits unless the nanoseconds are zero.
+     */
+    private static int writeBasicTime(int hour, int minute, int second, int nano, boolean fixedWidth, char[] buffer,
+                                      int offset)
+    {
+        offset = write2Digits(hour, buffer, offset);
+        offset = write2Digits(minute, buffer, offset);
+        offset = write2Digits(second, buffer, offset);
+        if(fixedWidth)
+        {
+            buffer[offset++] = '.';
+            return writeDigits(nano, 9, buffer, offset);
+        }
+        if(nano > 0)
+        {
+            buffer[offset++] = '.';
+            offset = writeFraction(nano, buffer, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Writes the nanoseconds in groups of three digits, as few groups as needed.
+     */
+    private static int writeFraction(int nano, char[] buffer, int offset)
+    {
+        if(nano % 1_000_000 == 0)
+            return writeDigits(nano / 1_000_000, 3, buffer, offset);
+        if(nano % 1_000 == 0)
+            return writeDigits(nano / 1_000, 6, buffer, offset);
+        return writeDigits(nano, 9, buffer, offset);
+    }
+
+    private static int write2Digits(int value, char[] buffer, int offset)
+    {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+        return offset + 2;
+    }
+
+    private static int write4Digits(int value, char[] buffer, int offset)
+    {
+        write2Digits(value / 100, buffer, offset);
+        return write2Digits(value % 100, buffer, offset + 2);
+    }
+
+    private static int writeDigits(int value, int digits, char[] buffer, int offset)
+    {
+        for(int i = offset + digits - 1; i >= offset; i--)
+        {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+}
@@ -17,10 +17,12 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import org.threeten.bp.LocalDate;
 
 /**
@@ -31,11 +33,35 @@ import org.threeten.bp.LocalDate;
  */
 public class LocalDateSerializer extends ThreetenbpArraySerializerBase<LocalDate>
 {
-    public static final LocalDateSerializer INSTANCE = new LocalDateSerializer();
+    public static final LocalDateSerializer INSTANCE = new LocalDateSerializer(false, false);
 
-    private LocalDateSerializer()
+    /**
+     * Writes timestamps as a single number, the epoch day, instead of an array.
+     *
+     * @since 2.3.3
+     */
+    public static final LocalDateSerializer PACKED = new LocalDateSerializer(true, false);
+
+    private final boolean packed;
+
+    private final boolean basic;
+
+    private LocalDateSerializer(boolean packed, boolean basic)
     {
         super(LocalDate.class);
+        this.packed = packed;
+        this.basic = basic;
+    }
+
+    /**
+     * Returns a serializer that writes strings in the ISO-8601 basic form, like {@code 20140215}, or in the extended
+     * form by default. Dates outside the years {@code 0000-9999} are still written in the extended form.
+     *
+     * @since 2.3.3
+     */
+    public LocalDateSerializer withBasicStrings(boolean basic)
+    {
+        return basic == this.basic ? this : new LocalDateSerializer(this.packed, basic);
     }
 
     @Override
@@ -43,15 +69,34 @@ public class LocalDateSerializer extends ThreetenbpArraySerializerBase<LocalDate
     {
         if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
         {
-            generator.writeStartArray();
-            generator.writeNumber(date.getYear());
-            generator.writeNumber(date.getMonthValue());
-            generator.writeNumber(date.getDayOfMonth());
-            generator.writeEndArray();
+            if(this.packed)
+            {
+                generator.writeNumber(date.toEpochDay());
+            }
+            else
+            {
+                generator.writeStartArray();
+                generator.writeNumber(date.getYear());
+                generator.writeNumber(date.getMonthValue());
+                generator.writeNumber(date.getDayOfMonth());
+                generator.writeEndArray();
+            }
         }
         else
         {
-            generator.writeString(date.toString());
+            OutputBuffer buffer = new OutputBuffer();
+            if(this.basic && IsoDateTimeWriter.isBasicYear(date.getYear()))
+                buffer.writeString(generator, IsoDateTimeWriter.writeBasicLocalDate(date, buffer.chars, 0));
+            else
+                buffer.writeString(generator, IsoDateTimeWriter.writeLocalDate(date, buffer.chars, 0));
         }
     }
+
+    @Override
+    public JsonNode getSchema(SerializerProvider provider, Type typeHint)
+    {
+        if(this.packed && provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+            return this.createSchemaNode("integer", true);
+        return super.getSchema(provider, typeHint);
+    }
 }
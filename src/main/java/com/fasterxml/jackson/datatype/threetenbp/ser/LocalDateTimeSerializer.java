@@ -17,11 +17,18 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.datatype.threetenbp.DecimalUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.temporal.ChronoField;
 
 /**
@@ -31,19 +38,98 @@ import org.threeten.bp.temporal.ChronoField;
  * @since 2.2.0
  */
 public class LocalDateTimeSerializer extends ThreetenbpArraySerializerBase<LocalDateTime>
+        implements ContextualSerializer
 {
-    public static final LocalDateTimeSerializer INSTANCE = new LocalDateTimeSerializer();
+    public static final LocalDateTimeSerializer INSTANCE = new LocalDateTimeSerializer(false, false, false);
 
-    private LocalDateTimeSerializer()
+    /**
+     * Writes timestamps as a single number, the nanoseconds since {@code 1970-01-01T00:00}, instead of an array. The
+     * few date-times more than 292 years away from that do not fit into a {@code long}, and are written as decimal
+     * seconds instead.
+     *
+     * @since 2.3.3
+     */
+    public static final LocalDateTimeSerializer PACKED = new LocalDateTimeSerializer(true, false, false);
+
+    private static final long MAX_PACKED_SECONDS = Long.MAX_VALUE / 1_000_000_000L;
+
+    private final boolean packed;
+
+    private final boolean fixedWidth;
+
+    private final boolean basic;
+
+    private LocalDateTimeSerializer(boolean packed, boolean fixedWidth, boolean basic)
     {
         super(LocalDateTime.class);
+        this.packed = packed;
+        this.fixedWidth = fixedWidth;
+        this.basic = basic;
+    }
+
+    /**
+     * Returns a serializer that writes strings at a fixed width, always with the seconds and all nine fraction
+     * digits, or with them trimmed like {@code toString()} by default.
+     *
+     * @since 2.3.3
+     */
+    public LocalDateTimeSerializer withFixedWidthStrings(boolean fixedWidth)
+    {
+        return fixedWidth == this.fixedWidth ? this :
+                new LocalDateTimeSerializer(this.packed, fixedWidth, this.basic);
+    }
+
+    /**
+     * Returns a serializer that writes strings in the ISO-8601 basic form, like {@code 20140215T101010.123}, or in the
+     * extended form by default. Date-times outside the years {@code 0000-9999} are still written in the extended
+     * form.
+     *
+     * @since 2.3.3
+     */
+    public LocalDateTimeSerializer withBasicStrings(boolean basic)
+    {
+        return basic == this.basic ? this :
+                new LocalDateTimeSerializer(this.packed, this.fixedWidth, basic);
+    }
+
+    /**
+     * Returns a variant that writes only the shape the features of the provider ask for now.
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+    {
+        int shape = shapeOf(provider);
+        return shape == STRINGS ? new Strings(this) : new Timestamps(this, shape);
     }
 
     @Override
     public void serialize(LocalDateTime dateTime, JsonGenerator generator, SerializerProvider provider)
             throws IOException
     {
-        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+        int shape = shapeOf(provider);
+        if(shape == STRINGS)
+            this.writeString(dateTime, generator);
+        else
+            this.writeTimestamp(dateTime, generator, shape == NANOSECOND_TIMESTAMPS);
+    }
+
+    final void writeTimestamp(LocalDateTime dateTime, JsonGenerator generator, boolean nanoseconds)
+            throws IOException
+    {
+        if(this.packed)
+        {
+            long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+            if(seconds > -MAX_PACKED_SECONDS && seconds < MAX_PACKED_SECONDS)
+            {
+                generator.writeNumber(seconds * 1_000_000_000L + dateTime.getNano());
+            }
+            else
+            {
+                OutputBuffer buffer = new OutputBuffer();
+                buffer.writeNumber(generator, DecimalUtils.toDecimal(seconds, dateTime.getNano(), buffer.chars, 0));
+            }
+        }
+        else
         {
             generator.writeStartArray();
             generator.writeNumber(dateTime.getYear());
@@ -56,7 +142,7 @@ public class LocalDateTimeSerializer extends ThreetenbpArraySerializerBase<Local
                 generator.writeNumber(dateTime.getSecond());
                 if(dateTime.getNano() > 0)
                 {
-                    if(provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS))
+                    if(nanoseconds)
                         generator.writeNumber(dateTime.getNano());
                     else
                         generator.writeNumber(dateTime.get(ChronoField.MILLI_OF_SECOND));
@@ -64,9 +150,72 @@ public class LocalDateTimeSerializer extends ThreetenbpArraySerializerBase<Local
             }
             generator.writeEndArray();
         }
+    }
+
+    final void writeString(LocalDateTime dateTime, JsonGenerator generator) throws IOException
+    {
+        OutputBuffer buffer = new OutputBuffer();
+        int length;
+        if(this.basic && IsoDateTimeWriter.isBasicYear(dateTime.getYear()))
+            length = IsoDateTimeWriter.writeBasicLocalDateTime(dateTime, this.fixedWidth, buffer.chars, 0);
+        else if(this.fixedWidth)
+            length = IsoDateTimeWriter.writeFixedLocalDateTime(dateTime, buffer.chars, 0);
         else
+            length = IsoDateTimeWriter.writeLocalDateTime(dateTime, buffer.chars, 0);
+        buffer.writeString(generator, length);
+    }
+
+    @Override
+    public JsonNode getSchema(SerializerProvider provider, Type typeHint)
+    {
+        if(this.packed && provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+            return this.createSchemaNode("number", true);
+        return super.getSchema(provider, typeHint);
+    }
+
+    /**
+     * Writes strings, or falls back to the features of the provider when they no longer ask for strings.
+     */
+    private static final class Strings extends LocalDateTimeSerializer
+    {
+        private Strings(LocalDateTimeSerializer base)
+        {
+            super(base.packed, base.fixedWidth, base.basic);
+        }
+
+        @Override
+        public void serialize(LocalDateTime dateTime, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
+        {
+            if(shapeOf(provider) == STRINGS)
+                this.writeString(dateTime, generator);
+            else
+                super.serialize(dateTime, generator, provider);
+        }
+    }
+
+    /**
+     * Writes timestamps in the unit it was created for, or falls back to the features of the provider when they no
+     * longer ask for that.
+     */
+    private static final class Timestamps extends LocalDateTimeSerializer
+    {
+        private final int shape;
+
+        private Timestamps(LocalDateTimeSerializer base, int shape)
+        {
+            super(base.packed, base.fixedWidth, base.basic);
+            this.shape = shape;
+        }
+
+        @Override
+        public void serialize(LocalDateTime dateTime, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
         {
-            generator.writeString(dateTime.toString());
+            if(shapeOf(provider) == this.shape)
+                this.writeTimestamp(dateTime, generator, this.shape == NANOSECOND_TIMESTAMPS);
+            else
+                super.serialize(dateTime, generator, provider);
         }
     }
 }
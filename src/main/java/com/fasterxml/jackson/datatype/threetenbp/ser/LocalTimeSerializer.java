@@ -17,10 +17,15 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.temporal.ChronoField;
 
@@ -30,19 +35,80 @@ import org.threeten.bp.temporal.ChronoField;
  * @author Nick Williams
  * @since 2.2.0
  */
-public class LocalTimeSerializer extends ThreetenbpArraySerializerBase<LocalTime>
+public class LocalTimeSerializer extends ThreetenbpArraySerializerBase<LocalTime> implements ContextualSerializer
 {
-    public static final LocalTimeSerializer INSTANCE = new LocalTimeSerializer();
+    public static final LocalTimeSerializer INSTANCE = new LocalTimeSerializer(false, false, false);
 
-    private LocalTimeSerializer()
+    /**
+     * Writes timestamps as a single number, the nanosecond of the day, instead of an array.
+     *
+     * @since 2.3.3
+     */
+    public static final LocalTimeSerializer PACKED = new LocalTimeSerializer(true, false, false);
+
+    private final boolean packed;
+
+    private final boolean fixedWidth;
+
+    private final boolean basic;
+
+    private LocalTimeSerializer(boolean packed, boolean fixedWidth, boolean basic)
     {
         super(LocalTime.class);
+        this.packed = packed;
+        this.fixedWidth = fixedWidth;
+        this.basic = basic;
+    }
+
+    /**
+     * Returns a serializer that writes strings at a fixed width, always with the seconds and all nine fraction
+     * digits, or with them trimmed like {@code toString()} by default.
+     *
+     * @since 2.3.3
+     */
+    public LocalTimeSerializer withFixedWidthStrings(boolean fixedWidth)
+    {
+        return fixedWidth == this.fixedWidth ? this : new LocalTimeSerializer(this.packed, fixedWidth, this.basic);
+    }
+
+    /**
+     * Returns a serializer that writes strings in the ISO-8601 basic form, like {@code 101010.123}, or in the extended
+     * form by default.
+     *
+     * @since 2.3.3
+     */
+    public LocalTimeSerializer withBasicStrings(boolean basic)
+    {
+        return basic == this.basic ? this : new LocalTimeSerializer(this.packed, this.fixedWidth, basic);
+    }
+
+    /**
+     * Returns a variant that writes only the shape the features of the provider ask for now.
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+    {
+        int shape = shapeOf(provider);
+        return shape == STRINGS ? new Strings(this) : new Timestamps(this, shape);
     }
 
     @Override
     public void serialize(LocalTime time, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+        int shape = shapeOf(provider);
+        if(shape == STRINGS)
+            this.writeString(time, generator);
+        else
+            this.writeTimestamp(time, generator, shape == NANOSECOND_TIMESTAMPS);
+    }
+
+    final void writeTimestamp(LocalTime time, JsonGenerator generator, boolean nanoseconds) throws IOException
+    {
+        if(this.packed)
+        {
+            generator.writeNumber(time.toNanoOfDay());
+        }
+        else
         {
             generator.writeStartArray();
             generator.writeNumber(time.getHour());
@@ -52,7 +118,7 @@ public class LocalTimeSerializer extends ThreetenbpArraySerializerBase<LocalTime
                 generator.writeNumber(time.getSecond());
                 if(time.getNano() > 0)
                 {
-                    if(provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS))
+                    if(nanoseconds)
                         generator.writeNumber(time.getNano());
                     else
                         generator.writeNumber(time.get(ChronoField.MILLI_OF_SECOND));
@@ -60,9 +126,72 @@ public class LocalTimeSerializer extends ThreetenbpArraySerializerBase<LocalTime
             }
             generator.writeEndArray();
         }
+    }
+
+    final void writeString(LocalTime time, JsonGenerator generator) throws IOException
+    {
+        OutputBuffer buffer = new OutputBuffer();
+        int length;
+        if(this.basic)
+            length = IsoDateTimeWriter.writeBasicLocalTime(time, this.fixedWidth, buffer.chars, 0);
+        else if(this.fixedWidth)
+            length = IsoDateTimeWriter.writeFixedLocalTime(time, buffer.chars, 0);
         else
+            length = IsoDateTimeWriter.writeLocalTime(time, buffer.chars, 0);
+        buffer.writeString(generator, length);
+    }
+
+    @Override
+    public JsonNode getSchema(SerializerProvider provider, Type typeHint)
+    {
+        if(this.packed && provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+            return this.createSchemaNode("integer", true);
+        return super.getSchema(provider, typeHint);
+    }
+
+    /**
+     * Writes strings, or falls back to the features of the provider when they no longer ask for strings.
+     */
+    private static final class Strings extends LocalTimeSerializer
+    {
+        private Strings(LocalTimeSerializer base)
+        {
+            super(base.packed, base.fixedWidth, base.basic);
+        }
+
+        @Override
+        public void serialize(LocalTime time, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
+        {
+            if(shapeOf(provider) == STRINGS)
+                this.writeString(time, generator);
+            else
+                super.serialize(time, generator, provider);
+        }
+    }
+
+    /**
+     * Writes timestamps in the unit it was created for, or falls back to the features of the provider when they no
+     * longer ask for that.
+     */
+    private static final class Timestamps extends LocalTimeSerializer
+    {
+        private final int shape;
+
+        private Timestamps(LocalTimeSerializer base, int shape)
+        {
+            super(base.packed, base.fixedWidth, base.basic);
+            this.shape = shape;
+        }
+
+        @Override
+        public void serialize(LocalTime time, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
         {
-            generator.writeString(time.toString());
+            if(shapeOf(provider) == this.shape)
+                this.writeTimestamp(time, generator, this.shape == NANOSECOND_TIMESTAMPS);
+            else
+                super.serialize(time, generator, provider);
         }
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import org.threeten.bp.Month;
+import org.threeten.bp.MonthDay;
+
+/**
+ * Serializer for Java 8 temporal {@link MonthDay}s. There are only 366 of them, so all of their strings are encoded
+ * up front.
+ *
+ * @since 2.3.3
+ */
+public class MonthDaySerializer extends ThreetenbpSerializerBase<MonthDay>
+{
+    public static final MonthDaySerializer INSTANCE = new MonthDaySerializer();
+
+    private static final SerializedString[] STRINGS = new SerializedString[12 * 31];
+
+    static
+    {
+        for(int month = 1; month <= 12; month++)
+        {
+            for(int day = 1; day <= Month.of(month).maxLength(); day++)
+                STRINGS[(month - 1) * 31 + day - 1] = new SerializedString(MonthDay.of(month, day).toString());
+        }
+    }
+
+    private MonthDaySerializer()
+    {
+        super(MonthDay.class);
+    }
+
+    @Override
+    public void serialize(MonthDay monthDay, JsonGenerator generator, SerializerProvider provider) throws IOException
+    {
+        generator.writeString(STRINGS[(monthDay.getMonthValue() - 1) * 31 + monthDay.getDayOfMonth() - 1]);
+    }
+}
@@ -17,8 +17,10 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 
 import java.io.IOException;
 import org.threeten.bp.OffsetTime;
@@ -30,19 +32,91 @@ import org.threeten.bp.temporal.ChronoField;
  * @author Nick Williams
  * @since 2.2.0
  */
-public class OffsetTimeSerializer extends ThreetenbpArraySerializerBase<OffsetTime>
+public class OffsetTimeSerializer extends ThreetenbpArraySerializerBase<OffsetTime> implements ContextualSerializer
 {
     public static final OffsetTimeSerializer INSTANCE = new OffsetTimeSerializer();
 
+    /**
+     * Writes timestamps as an array of just two numbers, the nanosecond of the day and the offset in seconds.
+     *
+     * @since 2.3.3
+     */
+    public static final OffsetTimeSerializer PACKED = new OffsetTimeSerializer(true, false, false);
+
+    private final boolean packed;
+
+    private final boolean fixedWidth;
+
+    private final boolean basic;
+
     protected OffsetTimeSerializer()
+    {
+        this(false, false, false);
+    }
+
+    private OffsetTimeSerializer(boolean packed, boolean fixedWidth, boolean basic)
     {
         super(OffsetTime.class);
+        this.packed = packed;
+        this.fixedWidth = fixedWidth;
+        this.basic = basic;
+    }
+
+    /**
+     * Returns a serializer that writes strings at a fixed width, always with the seconds and all nine fraction
+     * digits, or with them trimmed like {@code toString()} by default.
+     *
+     * @since 2.3.3
+     */
+    public OffsetTimeSerializer withFixedWidthStrings(boolean fixedWidth)
+    {
+        return fixedWidth == this.fixedWidth ? this : new OffsetTimeSerializer(this.packed, fixedWidth, this.basic);
+    }
+
+    /**
+     * Returns a serializer that writes strings in the ISO-8601 basic form, like {@code 101010.123+0100}, or in the
+     * extended form by default.
+     *
+     * @since 2.3.3
+     */
+    public OffsetTimeSerializer withBasicStrings(boolean basic)
+    {
+        return basic == this.basic ? this : new OffsetTimeSerializer(this.packed, this.fixedWidth, basic);
+    }
+
+    /**
+     * Returns a variant that writes only the shape the features of the provider ask for now.
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+    {
+        // a subclass may override serialize, which the variants would bypass
+        if(this.getClass() != OffsetTimeSerializer.class)
+            return this;
+        int shape = shapeOf(provider);
+        return shape == STRINGS ? new Strings(this) : new Timestamps(this, shape);
     }
 
     @Override
     public void serialize(OffsetTime time, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+        int shape = shapeOf(provider);
+        if(shape == STRINGS)
+            this.writeString(time, generator);
+        else
+            this.writeTimestamp(time, generator, shape == NANOSECOND_TIMESTAMPS);
+    }
+
+    final void writeTimestamp(OffsetTime time, JsonGenerator generator, boolean nanoseconds) throws IOException
+    {
+        if(this.packed)
+        {
+            generator.writeStartArray();
+            generator.writeNumber(time.toLocalTime().toNanoOfDay());
+            generator.writeNumber(time.getOffset().getTotalSeconds());
+            generator.writeEndArray();
+        }
+        else
         {
             generator.writeStartArray();
             generator.writeNumber(time.getHour());
@@ -52,7 +126,7 @@ public class OffsetTimeSerializer extends ThreetenbpArraySerializerBase<OffsetTi
                 generator.writeNumber(time.getSecond());
                 if(time.getNano() > 0)
                 {
-                    if(provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS))
+                    if(nanoseconds)
                         generator.writeNumber(time.getNano());
                     else
                         generator.writeNumber(time.get(ChronoField.MILLI_OF_SECOND));
@@ -61,9 +135,64 @@ public class OffsetTimeSerializer extends ThreetenbpArraySerializerBase<OffsetTi
             generator.writeString(time.getOffset().toString());
             generator.writeEndArray();
         }
+    }
+
+    final void writeString(OffsetTime time, JsonGenerator generator) throws IOException
+    {
+        OutputBuffer buffer = new OutputBuffer();
+        int length;
+        if(this.basic)
+            length = IsoDateTimeWriter.writeBasicOffsetTime(time, this.fixedWidth, buffer.chars, 0);
+        else if(this.fixedWidth)
+            length = IsoDateTimeWriter.writeFixedOffsetTime(time, buffer.chars, 0);
         else
+            length = IsoDateTimeWriter.writeOffsetTime(time, buffer.chars, 0);
+        buffer.writeString(generator, length);
+    }
+
+    /**
+     * Writes strings, or falls back to the features of the provider when they no longer ask for strings.
+     */
+    private static final class Strings extends OffsetTimeSerializer
+    {
+        private Strings(OffsetTimeSerializer base)
+        {
+            super(base.packed, base.fixedWidth, base.basic);
+        }
+
+        @Override
+        public void serialize(OffsetTime time, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
+        {
+            if(shapeOf(provider) == STRINGS)
+                this.writeString(time, generator);
+            else
+                super.serialize(time, generator, provider);
+        }
+    }
+
+    /**
+     * Writes timestamps in the unit it was created for, or falls back to the features of the provider when they no
+     * longer ask for that.
+     */
+    private static final class Timestamps extends OffsetTimeSerializer
+    {
+        private final int shape;
+
+        private Timestamps(OffsetTimeSerializer base, int shape)
+        {
+            super(base.packed, base.fixedWidth, base.basic);
+            this.shape = shape;
+        }
+
+        @Override
+        public void serialize(OffsetTime time, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
         {
-            generator.writeString(time.toString());
+            if(shapeOf(provider) == this.shape)
+                this.writeTimestamp(time, generator, this.shape == NANOSECOND_TIMESTAMPS);
+            else
+                super.serialize(time, generator, provider);
         }
     }
 }
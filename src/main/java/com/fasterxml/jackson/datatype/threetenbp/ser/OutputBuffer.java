@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Scratch space that a serializer formats one value into, so that writing the value does not go through an
+ * intermediate {@link String}. Each value gets a new one, so nothing is held per thread.
+ *
+ * @since 2.3.3
+ */
+final class OutputBuffer
+{
+    /**
+     * The {@code yyyy-MM-ddTHH:mm:ss} prefixes written last, by second. Streams of timestamps tend to repeat the same
+     * few seconds, so a prefix is only formatted again when its slot holds another second.
+     */
+    private static final SecondPrefix[] PREFIXES = new SecondPrefix[64];
+
+    /**
+     * Room for the longest text of {@link IsoDateTimeWriter}, plus a bracketed region ID of up to 33 characters.
+     */
+    final char[] chars = new char[IsoDateTimeWriter.MAX_LENGTH + 35];
+
+    /**
+     * Puts the {@code yyyy-MM-ddTHH:mm:ss} prefix of a local date-time, given as epoch seconds in UTC, at the start of
+     * the characters and returns its length.
+     */
+    int writeSecondPrefix(long localSecond)
+    {
+        int index = (int) localSecond & (PREFIXES.length - 1);
+        SecondPrefix prefix = PREFIXES[index];
+        if(prefix == null || prefix.second != localSecond)
+            PREFIXES[index] = prefix = new SecondPrefix(localSecond);
+        System.arraycopy(prefix.text, 0, this.chars, 0, prefix.text.length);
+        return prefix.text.length;
+    }
+
+    /**
+     * Writes the first {@code length} characters as a number. JSON generators get them as a raw value, which is what
+     * {@link JsonGenerator#writeNumber(String)} does too; other generators still get a {@link String}.
+     */
+    void writeNumber(JsonGenerator generator, int length) throws IOException
+    {
+        if(generator instanceof JsonGeneratorImpl &&
+                !generator.isEnabled(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS))
+            generator.writeRawValue(this.chars, 0, length);
+        else
+            generator.writeNumber(new String(this.chars, 0, length));
+    }
+
+    /**
+     * Writes the first {@code length} characters, which must all be ASCII, as a string value. Generators that encode
+     * UTF-8 themselves get the bytes directly, unless they have custom escapes that would have to be applied.
+     */
+    void writeString(JsonGenerator generator, int length) throws IOException
+    {
+        if(generator instanceof UTF8JsonGenerator && generator.getCharacterEscapes() == null)
+        {
+            byte[] bytes = new byte[length];
+            for(int i = 0; i < length; i++)
+                bytes[i] = (byte) this.chars[i];
+            generator.writeRawUTF8String(bytes, 0, length);
+        }
+        else
+            generator.writeString(this.chars, 0, length);
+    }
+
+    /**
+     * A formatted prefix. Immutable, so that slots can be replaced without locking.
+     */
+    private static final class SecondPrefix
+    {
+        final long second;
+        final char[] text;
+
+        SecondPrefix(long second)
+        {
+            char[] buffer = new char[IsoDateTimeWriter.MAX_LENGTH];
+            this.second = second;
+            this.text = Arrays.copyOf(buffer, IsoDateTimeWriter.writeSecondPrefix(second, buffer, 0));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded cache of the ISO-8601 text of temporal values, for payloads that serialize the same values over and over.
+ * Install one with {@link com.fasterxml.jackson.datatype.threetenbp.ThreetenbpModule#setRenderCache}, and size it
+ * with the hit and miss counts.<br>
+ * <br>
+ * Like the other caches in this module, it is a direct-mapped table of immutable entries: each value has exactly one
+ * slot, where a newer value simply replaces an older one. That keeps lookups lock-free and the memory bounded by the
+ * capacity; an LRU or clock policy would have to write to shared state on every hit as well.<br>
+ * <br>
+ * The hits and misses are counted exactly, in a fixed number of stripes picked by thread, each on its own cache
+ * lines, so that threads rarely contend on a counter. They are summed when read, so a count read while other threads
+ * use the cache may miss their latest lookups.
+ *
+ * @since 2.3.3
+ */
+public final class RenderCache
+{
+    private static final int STRIPES = 16;
+
+    /**
+     * The distance between two counters, in longs, so that no two share a 64-byte cache line.
+     */
+    private static final int PADDING = 8;
+
+    private static final int MISSES = STRIPES * PADDING;
+
+    private final Entry[] entries;
+
+    /**
+     * The hits of each stripe, followed by the misses of each stripe.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(2 * STRIPES * PADDING);
+
+    /**
+     * Creates a cache for at least {@code capacity} values; the capacity is rounded up to a power of two.
+     */
+    public RenderCache(int capacity)
+    {
+        if(capacity < 1 || capacity > 1 << 30)
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30.");
+        int size = 1;
+        while(size < capacity)
+            size <<= 1;
+        this.entries = new Entry[size];
+    }
+
+    public int getCapacity()
+    {
+        return this.entries.length;
+    }
+
+    public long getHits()
+    {
+        return this.sum(0);
+    }
+
+    public long getMisses()
+    {
+        return this.sum(MISSES);
+    }
+
+    /**
+     * Returns the encoded {@code toString()} text of the value.
+     */
+    SerializedString get(Object value)
+    {
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (this.entries.length - 1);
+        int stripe = ((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+        Entry entry = this.entries[index];
+        if(entry != null && entry.value.equals(value))
+        {
+            this.counts.incrementAndGet(stripe);
+            return entry.text;
+        }
+
+        this.counts.incrementAndGet(MISSES + stripe);
+        entry = new Entry(value);
+        this.entries[index] = entry;
+        return entry.text;
+    }
+
+    private long sum(int offset)
+    {
+        long sum = 0L;
+        for(int i = offset; i < offset + MISSES; i += PADDING)
+            sum += this.counts.get(i);
+        return sum;
+    }
+
+    private static final class Entry
+    {
+        final Object value;
+        final SerializedString text;
+
+        Entry(Object value)
+        {
+            this.value = value;
+            this.text = new SerializedString(value.toString());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonschema.SchemaAware;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Serializer that writes values in their ISO-8601 string form through a {@link RenderCache}, and leaves timestamps to
+ * the serializer it wraps. If that serializer is contextual, this one is contextualized along with it.
+ *
+ * @since 2.3.3
+ */
+public class RenderCachingSerializer<T> extends ThreetenbpSerializerBase<T> implements ContextualSerializer
+{
+    private final JsonSerializer<T> delegate;
+
+    private final RenderCache cache;
+
+    public RenderCachingSerializer(Class<T> supportedType, JsonSerializer<T> delegate, RenderCache cache)
+    {
+        super(supportedType);
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException
+    {
+        if(!(this.delegate instanceof ContextualSerializer))
+            return this;
+        JsonSerializer<?> delegate = ((ContextualSerializer) this.delegate).createContextual(provider, property);
+        if(delegate == this.delegate)
+            return this;
+        return new RenderCachingSerializer<T>(this.handledType(), (JsonSerializer<T>) delegate, this.cache);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException
+    {
+        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+            this.delegate.serialize(value, generator, provider);
+        else
+            generator.writeString(this.cache.get(value));
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer serializer) throws IOException
+    {
+        if(provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS))
+            this.delegate.serializeWithType(value, generator, provider, serializer);
+        else
+            super.serializeWithType(value, generator, provider, serializer);
+    }
+
+    @Override
+    public JsonNode getSchema(SerializerProvider provider, Type typeHint) throws JsonMappingException
+    {
+        if(this.delegate instanceof SchemaAware)
+            return ((SchemaAware) this.delegate).getSchema(provider, typeHint);
+        return super.getSchema(provider, typeHint);
+    }
+}
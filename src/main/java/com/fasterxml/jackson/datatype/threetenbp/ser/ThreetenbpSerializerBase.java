@@ -1,6 +1,7 @@
 package com.fasterxml.jackson.datatype.threetenbp.ser;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
@@ -15,11 +16,40 @@ import java.io.IOException;
  */
 abstract class ThreetenbpSerializerBase<T> extends StdSerializer<T>
 {
+    /**
+     * The shape of values when {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} is disabled; see
+     * {@link #shapeOf}.
+     */
+    static final int STRINGS = 0;
+
+    /**
+     * The shape of values when timestamps are enabled but
+     * {@link SerializationFeature#WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS} is not.
+     */
+    static final int MILLISECOND_TIMESTAMPS = SerializationFeature.WRITE_DATES_AS_TIMESTAMPS.getMask();
+
+    /**
+     * The shape of values when timestamps in nanoseconds are enabled.
+     */
+    static final int NANOSECOND_TIMESTAMPS =
+            MILLISECOND_TIMESTAMPS | SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS.getMask();
+
     protected ThreetenbpSerializerBase(Class<T> supportedType)
     {
         super(supportedType);
     }
 
+    /**
+     * Returns the shape that the features of the provider ask for, with a single read of them. Serializers that
+     * specialize on a shape when they are contextualized check it for every value, because Jackson keeps
+     * contextualized serializers and reuses them for writers with other features.
+     */
+    static int shapeOf(SerializerProvider provider)
+    {
+        int features = provider.getConfig().getSerializationFeatures();
+        return (features & MILLISECOND_TIMESTAMPS) == 0 ? STRINGS : features & NANOSECOND_TIMESTAMPS;
+    }
+
     @Override
     public void serializeWithType(T value, JsonGenerator generator, SerializerProvider provider,
                                   TypeSerializer serializer) throws IOException
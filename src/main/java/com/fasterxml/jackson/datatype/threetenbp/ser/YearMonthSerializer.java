@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import org.threeten.bp.YearMonth;
+
+/**
+ * Serializer for Java 8 temporal {@link YearMonth}s. The strings of year-months within a window of years around the
+ * present are encoded once, on first use; others are written with {@link YearMonth#toString()}.
+ *
+ * @since 2.3.3
+ */
+public class YearMonthSerializer extends ThreetenbpSerializerBase<YearMonth>
+{
+    public static final YearMonthSerializer INSTANCE = new YearMonthSerializer();
+
+    // the same window as deser.TemporalTables, which is package-private; keep the two in step
+    private static final int MIN_YEAR = 1900;
+
+    private static final int MAX_YEAR = 2199;
+
+    private static final SerializedString[] STRINGS = new SerializedString[(MAX_YEAR - MIN_YEAR + 1) * 12];
+
+    private YearMonthSerializer()
+    {
+        super(YearMonth.class);
+    }
+
+    @Override
+    public void serialize(YearMonth yearMonth, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+    {
+        int year = yearMonth.getYear();
+        if(year < MIN_YEAR || year > MAX_YEAR)
+        {
+            generator.writeString(yearMonth.toString());
+            return;
+        }
+
+        int index = (year - MIN_YEAR) * 12 + yearMonth.getMonthValue() - 1;
+        SerializedString string = STRINGS[index];
+        if(string == null)
+            STRINGS[index] = string = new SerializedString(yearMonth.toString());
+        generator.writeString(string);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 FasterXML.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package com.fasterxml.jackson.datatype.threetenbp.ser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * Serializer for Java 8 temporal {@link ZoneId}s and {@link ZoneOffset}s. Payloads tend to repeat the same few zones,
+ * so the encoded IDs are kept in a small direct-mapped table keyed by zone; on a collision the newer zone simply
+ * replaces the older one.
+ *
+ * @since 2.3.3
+ */
+public class ZoneIdSerializer extends ThreetenbpSerializerBase<ZoneId>
+{
+    public static final ZoneIdSerializer INSTANCE = new ZoneIdSerializer();
+
+    private static final int SIZE = 256;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    private ZoneIdSerializer()
+    {
+        super(ZoneId.class);
+    }
+
+    @Override
+    public void serialize(ZoneId zone, JsonGenerator generator, SerializerProvider provider) throws IOException
+    {
+        int hash = zone.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (SIZE - 1);
+        Entry entry = this.entries[index];
+        if(entry == null || (entry.zone != zone && !entry.zone.equals(zone)))
+        {
+            entry = new Entry(zone);
+            this.entries[index] = entry;
+        }
+        generator.writeString(entry.id);
+    }
+
+    private static final class Entry
+    {
+        final ZoneId zone;
+        final SerializedString id;
+
+        Entry(ZoneId zone)
+        {
+            this.zone = zone;
+            this.id = new SerializedString(zone.getId());
+        }
+    }
+}
@@ -62,6 +62,25 @@ public class TestDecimalUtils
         assertEquals("The returned decimal is not correct.", "19827342231.999999999", decimal);
     }
 
+    @Test
+    public void testToDecimal06()
+    {
+        char[] buffer = new char[DecimalUtils.MAX_DECIMAL_LENGTH + 3];
+        int end = DecimalUtils.toDecimal(-19827342231L, 72, buffer, 3);
+
+        assertEquals("The returned end is not correct.", 3 + 22, end);
+        assertEquals("The decimal is not correct.", "-19827342230.999999928", new String(buffer, 3, end - 3));
+    }
+
+    @Test
+    public void testToDecimal07()
+    {
+        char[] buffer = new char[DecimalUtils.MAX_DECIMAL_LENGTH];
+        int end = DecimalUtils.toDecimal(Long.MIN_VALUE, 999999999, buffer, 0);
+
+        assertEquals("The decimal is not correct.", (Long.MIN_VALUE + 1) + ".000000001", new String(buffer, 0, end));
+    }
+
     @Test
     public void testExtractNanosecondDecimal01()
     {
@@ -133,4 +152,42 @@ public class TestDecimalUtils
         int nanoseconds = DecimalUtils.extractNanosecondDecimal(value,  seconds);
         assertEquals("The nanosecond part is not correct.", 999999999, nanoseconds);
     }
+
+    @Test
+    public void testExtractDecimalFromCharacters01()
+    {
+        char[] buffer = "[19827342231.192837465]".toCharArray();
+        DecimalUtils.SecondsAndNanoseconds value = DecimalUtils.extractDecimal(buffer, 1, 22);
+
+        assertEquals("The second part is not correct.", 19827342231L, value.seconds);
+        assertEquals("The nanosecond part is not correct.", 192837465, value.nanoseconds);
+    }
+
+    @Test
+    public void testExtractDecimalFromCharacters02()
+    {
+        char[] buffer = "-15.72".toCharArray();
+        DecimalUtils.SecondsAndNanoseconds value = DecimalUtils.extractDecimal(buffer, 0, 6);
+
+        assertEquals("The second part is not correct.", -15L, value.seconds);
+        assertEquals("The nanosecond part is not correct.", -720000000, value.nanoseconds);
+    }
+
+    @Test
+    public void testExtractDecimalFromCharacters03()
+    {
+        char[] buffer = "1.5E-8".toCharArray();
+        DecimalUtils.SecondsAndNanoseconds value = DecimalUtils.extractDecimal(buffer, 0, 6);
+
+        assertEquals("The second part is not correct.", 0L, value.seconds);
+        assertEquals("The nanosecond part is not correct.", 15, value.nanoseconds);
+    }
+
+    @Test
+    public void testExtractDecimalFromCharacters04()
+    {
+        char[] buffer = "1.5e+20".toCharArray();
+
+        assertNull("The value should not be readable.", DecimalUtils.extractDecimal(buffer, 0, 7));
+    }
 }
@@ -1,7 +1,9 @@
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
@@ -55,6 +57,47 @@ public class TestDurationSerialization
         assertEquals("The value is not correct.", "13498.000008374", value);
     }
 
+    @Test
+    public void testSerializationAsTimestampNanoseconds03() throws Exception
+    {
+        Duration duration = Duration.ofSeconds(-13498L, 8374);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        this.mapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, true);
+        String value = this.mapper.writeValueAsString(duration);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "-13497.999991626", value);
+    }
+
+    @Test
+    public void testSerializationAsTimestampNanoseconds04() throws Exception
+    {
+        Duration duration = Duration.ofSeconds(13498L, 8374);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        this.mapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, true);
+        this.mapper.configure(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS, true);
+        String value = this.mapper.writeValueAsString(duration);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"13498.000008374\"", value);
+    }
+
+    @Test
+    public void testSerializationAsTimestampNanoseconds05() throws Exception
+    {
+        Duration duration = Duration.ofSeconds(13498L, 8374);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        this.mapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, true);
+        this.mapper.configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, true);
+        Duration value = this.mapper.convertValue(duration, Duration.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", duration, value);
+    }
+
     @Test
     public void testSerializationAsTimestampMilliseconds01() throws Exception
     {
@@ -94,6 +137,23 @@ public class TestDurationSerialization
         assertEquals("The value is not correct.", "13498837", value);
     }
 
+    @Test
+    public void testSerializationAsShortestTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.SHORTEST_DECIMAL_TIMESTAMPS));
+        Duration[] durations = {
+                Duration.ofSeconds(60L), Duration.ofSeconds(3L, 500000000), Duration.ofMillis(-1500L)
+        };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(durations);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[60.0,3.5,-1.5]", value);
+        assertArrayEquals("The values should read back.", durations, mapper.readValue(value, Duration[].class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -118,6 +178,25 @@ public class TestDurationSerialization
         assertEquals("The value is not correct.", '"' + duration.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationWithChangingFeatures() throws Exception
+    {
+        Duration duration = Duration.ofSeconds(13498L, 8374);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(new Duration[] { duration });
+        assertEquals("The value is not correct.", "[\"PT3H44M58.000008374S\"]", value);
+
+        value = this.mapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(new Duration[] { duration });
+        assertEquals("The value is not correct.", "[13498.000008374]", value);
+
+        value = this.mapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .writeValueAsString(new Duration[] { duration });
+        assertEquals("The value is not correct.", "[13498000]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -210,6 +289,28 @@ public class TestDurationSerialization
         assertEquals("The value is not correct.", duration,  value);
     }
 
+    @Test
+    public void testDeserializationAsFloat05() throws Exception
+    {
+        Duration duration = Duration.ofSeconds(-13498L, -8374);
+
+        Duration value = this.mapper.readValue("-13498.000008374", Duration.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", duration,  value);
+    }
+
+    @Test
+    public void testDeserializationAsFloat06() throws Exception
+    {
+        Duration duration = Duration.ofSeconds(1349L, 800_000_000);
+
+        Duration value = this.mapper.readValue("1.3498E3", Duration.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", duration,  value);
+    }
+
     @Test
     public void testDeserializationAsInt01() throws Exception
     {
@@ -258,6 +359,21 @@ public class TestDurationSerialization
         assertEquals("The value is not correct.", duration,  value);
     }
 
+    @Test
+    public void testDeserializationAsIntWithChangingFeatures() throws Exception
+    {
+        ObjectReader reader = this.mapper.reader(Duration.class);
+
+        Duration value = reader.readValue("60");
+        assertEquals("The value is not correct.", Duration.ofSeconds(60L), value);
+
+        value = reader.without(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS).readValue("60");
+        assertEquals("The value is not correct.", Duration.ofMillis(60L), value);
+
+        value = reader.readValue("60");
+        assertEquals("The value is not correct.", Duration.ofSeconds(60L), value);
+    }
+
     @Test
     public void testDeserializationAsString01() throws Exception
     {
@@ -58,4 +58,25 @@ public class TestFeatures
         assertTrue("Adjust dates to context time zone setting should be enabled by default.",
                 DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE.enabledByDefault());
     }
+
+    @Test
+    public void testModuleFeaturesDisabledByDefault()
+    {
+        ThreetenbpModule module = new ThreetenbpModule();
+        for(ThreetenbpModule.Feature feature : ThreetenbpModule.Feature.values())
+        {
+            assertFalse("Module feature " + feature + " should be disabled by default.", feature.enabledByDefault());
+            assertFalse("Module feature " + feature + " should be disabled by default.", module.isEnabled(feature));
+        }
+    }
+
+    @Test
+    public void testModuleFeaturesConfigurable()
+    {
+        ThreetenbpModule module = new ThreetenbpModule().enable(ThreetenbpModule.Feature.CANONICAL_LOCAL_DATES);
+        assertTrue("The feature should be enabled.", module.isEnabled(ThreetenbpModule.Feature.CANONICAL_LOCAL_DATES));
+
+        module.configure(ThreetenbpModule.Feature.CANONICAL_LOCAL_DATES, false);
+        assertFalse("The feature should be disabled.", module.isEnabled(ThreetenbpModule.Feature.CANONICAL_LOCAL_DATES));
+    }
 }
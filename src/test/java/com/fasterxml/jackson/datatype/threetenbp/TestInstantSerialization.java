@@ -16,16 +16,21 @@
 
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
 import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.Temporal;
+import java.io.StringReader;
 
 import static org.junit.Assert.*;
 
@@ -124,6 +129,113 @@ public class TestInstantSerialization
         assertEquals("The value is not correct.", Long.toString(date.toEpochMilli()), value);
     }
 
+    @Test
+    public void testSerializationAsTimestamp04Nanoseconds() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(-1L, 1);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        this.mapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, true);
+        String value = this.mapper.writeValueAsString(new Instant[] { date, date });
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[-0.999999999,-0.999999999]", value);
+    }
+
+    @Test
+    public void testSerializationAsTimestamp05Nanoseconds() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(0L, -1);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        this.mapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, true);
+        String value = this.mapper.writeValueAsString(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "-0.000000001", value);
+        assertEquals("The value did not round-trip.", date, this.mapper.readValue(value, Instant.class));
+    }
+
+    @Test
+    public void testSerializationAsShortestTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.SHORTEST_DECIMAL_TIMESTAMPS));
+        Instant[] instants = {
+                Instant.ofEpochSecond(1392000000L), Instant.ofEpochSecond(1392000000L, 120000000),
+                Instant.ofEpochSecond(1392000000L, 1), Instant.ofEpochSecond(-1L, 250000000)
+        };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(instants);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[1392000000.0,1392000000.12,1392000000.000000001,-0.75]", value);
+        assertArrayEquals("The values should read back.", instants, mapper.readValue(value, Instant[].class));
+    }
+
+    @Test
+    public void testSerializationAsShortestTimestamp02() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.SHORTEST_DECIMAL_TIMESTAMPS));
+        Instant instant = Instant.ofEpochSecond(1392000000L, 120000000);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        mapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+        String value = mapper.writeValueAsString(instant);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "1392000000120", value);
+    }
+
+    @Test
+    public void testSerializationAsShortestTimestamp03() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.SHORTEST_DECIMAL_TIMESTAMPS));
+        Instant instant = Instant.ofEpochSecond(1392000000L);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        mapper.configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+        String value = mapper.writeValueAsString(instant);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "1392000000.0", value);
+        assertEquals("The value should read back as seconds.", instant, mapper.readValue(value, Instant.class));
+    }
+
+    @Test
+    public void testSerializationAsFixedWidthString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.FIXED_WIDTH_ISO_STRINGS));
+        Instant[] instants = { Instant.ofEpochSecond(1392459000L), Instant.ofEpochSecond(1392459010L, 120000000) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(instants);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"2014-02-15T10:10:00.000000000Z\",\"2014-02-15T10:10:10.120000000Z\"]", value);
+        assertArrayEquals("The values should read back.", instants, mapper.readValue(value, Instant[].class));
+    }
+
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS));
+        Instant[] instants = { Instant.ofEpochSecond(1392459000L), Instant.ofEpochSecond(1392459010L, 123000000) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(instants);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"20140215T101000Z\",\"20140215T101010.123Z\"]", value);
+        assertArrayEquals("The values should read back.", instants, this.mapper.readValue(value, Instant[].class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -160,6 +272,96 @@ public class TestInstantSerialization
         assertEquals("The value is not correct.", '"' + date.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString04() throws Exception
+    {
+        Instant[] dates = new Instant[] {
+                Instant.ofEpochSecond(0L), Instant.ofEpochSecond(-1L, 1_000), Instant.ofEpochSecond(-62167219201L, 1),
+                Instant.ofEpochSecond(253402300800L, 100_000_000), Instant.MIN, Instant.MAX
+        };
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(dates);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"1970-01-01T00:00Z\",\"1969-12-31T23:59:59.000001Z\",\"-0001-12-31T23:59:59.000000001Z\"," +
+                        "\"+10000-01-01T00:00:00.100Z\",\"-1000000000-01-01T00:00Z\"," +
+                        "\"+1000000000-12-31T23:59:59.999999999Z\"]", value);
+    }
+
+    @Test
+    public void testSerializationAsString05() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(123456789L, 183917322);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        byte[] value = this.mapper.writeValueAsBytes(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", '"' + date.toString() + '"', new String(value, "UTF-8"));
+    }
+
+    @Test
+    public void testSerializationAsString06() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(123456789L, 183917322);
+
+        this.mapper.getFactory().setCharacterEscapes(new CharacterEscapes() {
+            @Override
+            public int[] getEscapeCodesForAscii() {
+                int[] escapes = CharacterEscapes.standardAsciiEscapesForJSON();
+                escapes[':'] = CharacterEscapes.ESCAPE_STANDARD;
+                return escapes;
+            }
+
+            @Override
+            public SerializableString getEscapeSequence(int ch) {
+                return null;
+            }
+        });
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        byte[] value = this.mapper.writeValueAsBytes(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"1973-11-29T21\\u003A33\\u003A09.183917322Z\"",
+                new String(value, "UTF-8"));
+    }
+
+    @Test
+    public void testSerializationAsString07() throws Exception
+    {
+        Instant[] dates = {
+                Instant.ofEpochSecond(1392459000L, 1_000_000), Instant.ofEpochSecond(1392459000L, 0),
+                Instant.ofEpochSecond(1392459000L, 123_456), Instant.ofEpochSecond(1392459001L, 0),
+                Instant.ofEpochSecond(1392459000L, 0)
+        };
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(dates);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"2014-02-15T10:10:00.001Z\",\"2014-02-15T10:10Z\"," +
+                "\"2014-02-15T10:10:00.000123456Z\",\"2014-02-15T10:10:01Z\",\"2014-02-15T10:10Z\"]", value);
+    }
+
+    @Test
+    public void testSerializationWithChangingFeatures() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(1392459000L, 183917322);
+
+        String value = this.mapper.writeValueAsString(new Instant[] { date });
+        assertEquals("The value is not correct.", "[1392459000.183917322]", value);
+
+        value = this.mapper.writer().without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .writeValueAsString(new Instant[] { date });
+        assertEquals("The value is not correct.", "[1392459000183]", value);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        value = this.mapper.writeValueAsString(new Instant[] { date });
+        assertEquals("The value is not correct.", "[\"2014-02-15T10:10:00.183917322Z\"]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -237,6 +439,39 @@ public class TestInstantSerialization
         assertEquals("The value is not correct.", date, value);
     }
 
+    @Test
+    public void testDeserializationAsFloat04() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(-1L, 500_000_000);
+
+        Instant value = this.mapper.readValue("-0.5", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsFloat05() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(1392000000L, 123_000_000);
+
+        Instant value = this.mapper.readValue("1.392000000123e9", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsFloat06() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(123456789L, 183917322);
+
+        Instant value = this.mapper.readValue("123456789.1839173229", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
     @Test
     public void testDeserializationAsInt01Nanoseconds() throws Exception
     {
@@ -344,6 +579,110 @@ public class TestInstantSerialization
         assertEquals("The value is not correct.", date, value);
     }
 
+    @Test
+    public void testDeserializationAsString04() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(951782400L, 120000);
+
+        Instant value = this.mapper.readValue("\"2000-02-29T00:00:00.00012Z\"", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsString05() throws Exception
+    {
+        Instant date = Instant.ofEpochSecond(-62167219200L);
+
+        Instant value = this.mapper.readValue("\"0000-01-01T00:00Z\"", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsString06() throws Exception
+    {
+        Instant date = Instant.parse("+12014-06-15t10:15:30.5z");
+
+        Instant value = this.mapper.readValue("\"+12014-06-15t10:15:30.5z\"", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsStringRandom() throws Exception
+    {
+        java.util.Random random = new java.util.Random(20140215L);
+        for(int i = 0; i < 10_000; i++)
+        {
+            Instant date = Instant.ofEpochSecond(random.nextInt(Integer.MAX_VALUE) * 3L, random.nextInt(1_000_000_000));
+            if(i % 3 == 0)
+                date = date.truncatedTo(ChronoUnit.SECONDS);
+
+            Instant value = this.mapper.readValue('"' + date.toString() + '"', Instant.class);
+
+            assertEquals("The value is not correct.", date, value);
+        }
+    }
+
+    @Test
+    public void testDeserializationAsString07() throws Exception
+    {
+        Instant[] value = this.mapper.readValue("[\"2014-02-15T10:10:05Z\",\"2014-02-15T10:10:06.5Z\"," +
+                "\"2014-02-15T11:10Z\",\"2014-02-15T10:10:07Z\",\"2015-02-15T10:10:07Z\"]", Instant[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertArrayEquals("The value is not correct.", new Instant[] {
+                Instant.parse("2014-02-15T10:10:05Z"), Instant.parse("2014-02-15T10:10:06.5Z"),
+                Instant.parse("2014-02-15T11:10:00Z"), Instant.parse("2014-02-15T10:10:07Z"),
+                Instant.parse("2015-02-15T10:10:07Z")
+        }, value);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringInvalidDate() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"2014-02-30T10:15:30Z\"", Instant.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringInvalidSecond() throws Throwable
+    {
+        this.mapper.readValue("\"2014-02-15T10:15:30Z\"", Instant.class);
+        try
+        {
+            this.mapper.readValue("\"2014-02-15T10:15:60Z\"", Instant.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void testDeserializationAsStringFromReader() throws Exception
+    {
+        Instant first = Instant.ofEpochSecond(123456789L, 183917322);
+        Instant second = Instant.ofEpochSecond(987654321L);
+
+        Instant[] value = this.mapper.readValue(
+                new StringReader("[\"  " + first + "\", \"" + second + " \", \" \"]"), Instant[].class
+        );
+
+        assertNotNull("The value should not be null.", value);
+        assertArrayEquals("The value is not correct.", new Instant[] { first, second, null }, value);
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -0,0 +1,180 @@
+package com.fasterxml.jackson.datatype.threetenbp;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TestIntegerTimestamps
+{
+    private ObjectMapper mapper;
+
+    @Before
+    public void setUp()
+    {
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(
+                new ThreetenbpModule().setIntegerTimestamps(IntegerTimestamps.of(TimeUnit.MICROSECONDS))
+        );
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnitInvalid()
+    {
+        IntegerTimestamps.of(TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void testToTimestamp01()
+    {
+        IntegerTimestamps timestamps = IntegerTimestamps.of(TimeUnit.MILLISECONDS);
+
+        assertEquals("The timestamp is not correct.", 1392459010123L, timestamps.toTimestamp(1392459010L, 123456789));
+        assertEquals("The timestamp is not correct.", -1L, timestamps.toTimestamp(-1L, 999999999));
+        assertEquals("The instant is not correct.", Instant.ofEpochSecond(-1L, 999000000), timestamps.toInstant(-1L));
+    }
+
+    @Test
+    public void testToTimestamp02()
+    {
+        IntegerTimestamps timestamps = IntegerTimestamps.of(TimeUnit.SECONDS, Instant.parse("2000-01-01T00:00:00Z"));
+
+        assertEquals("The timestamp is not correct.", 0L, timestamps.toTimestamp(946684800L, 999999999));
+        assertEquals("The timestamp is not correct.", -1L, timestamps.toTimestamp(946684799L, 0));
+        assertEquals("The instant is not correct.", Instant.parse("2000-01-01T00:01:00Z"), timestamps.toInstant(60L));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testToTimestampOverflow()
+    {
+        IntegerTimestamps.of(TimeUnit.NANOSECONDS).toTimestamp(Instant.MAX.getEpochSecond(), 0);
+    }
+
+    @Test
+    public void testSerializationAsTimestamp01() throws Exception
+    {
+        Instant instant = Instant.ofEpochSecond(1392459010L, 123456789);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = this.mapper.writeValueAsString(instant);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "1392459010123456", value);
+    }
+
+    @Test
+    public void testSerializationAsTimestamp02() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ThreetenbpModule().setIntegerTimestamps(
+                IntegerTimestamps.of(TimeUnit.NANOSECONDS, Instant.parse("2014-01-01T00:00:00Z"))
+        ));
+        Object[] values = {
+                OffsetDateTime.of(2014, 1, 1, 1, 0, 1, 5, ZoneOffset.ofHours(1)),
+                ZonedDateTime.of(2014, 1, 1, 0, 0, 2, 0, ZoneId.of("Europe/Paris")),
+                Duration.ofSeconds(3L, 7)
+        };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(values);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[1000000005,-3598000000000,3000000007]", value);
+    }
+
+    @Test
+    public void testSerializationAsString01() throws Exception
+    {
+        Instant instant = Instant.ofEpochSecond(1392459010L, 123456789);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(instant);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", '"' + instant.toString() + '"', value);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testSerializationOverflow() throws Throwable
+    {
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        try
+        {
+            this.mapper.writeValueAsString(Instant.MAX);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void testDeserialization01() throws Exception
+    {
+        Instant value = this.mapper.readValue("1392459010123456", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", Instant.ofEpochSecond(1392459010L, 123456000), value);
+    }
+
+    @Test
+    public void testDeserialization02() throws Exception
+    {
+        this.mapper.setTimeZone(TimeZone.getTimeZone("UTC"));
+        OffsetDateTime value = this.mapper.readValue("-1", OffsetDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                OffsetDateTime.of(1969, 12, 31, 23, 59, 59, 999999000, ZoneOffset.UTC), value);
+    }
+
+    @Test
+    public void testDeserialization03() throws Exception
+    {
+        Duration value = this.mapper.readValue("90000001", Duration.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", Duration.ofSeconds(90L, 1000), value);
+    }
+
+    @Test
+    public void testDeserialization04() throws Exception
+    {
+        Instant value = this.mapper.readValue("1392459010.123456789", Instant.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", Instant.ofEpochSecond(1392459010L, 123456789), value);
+    }
+
+    @Test
+    public void testRoundTrip01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ThreetenbpModule().setIntegerTimestamps(
+                IntegerTimestamps.of(TimeUnit.MILLISECONDS, Instant.parse("2001-09-09T01:46:40.5Z"))
+        ));
+        Instant instant = Instant.parse("1999-12-31T23:59:59.999Z");
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        Instant value = mapper.readValue(mapper.writeValueAsString(instant), Instant.class);
+
+        assertEquals("The value is not correct.", instant, value);
+    }
+}
@@ -16,12 +16,14 @@
 
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.Month;
 import org.threeten.bp.temporal.Temporal;
@@ -69,6 +71,60 @@ public class TestLocalDateSerialization
         assertEquals("The value is not correct.", "[2013,8,21]", value);
     }
 
+    @Test
+    public void testSerializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDate date = LocalDate.of(2014, Month.FEBRUARY, 15);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "16116", value);
+    }
+
+    @Test
+    public void testSchemaAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        assertEquals("The schema type is not correct.", "integer", schemaType(mapper));
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        assertEquals("The schema type is not correct.", "string", schemaType(mapper));
+    }
+
+    @Test
+    public void testSchemaAsTimestamp01() throws Exception
+    {
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        assertEquals("The schema type is not correct.", "array", schemaType(this.mapper));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static String schemaType(ObjectMapper mapper) throws Exception
+    {
+        return mapper.generateJsonSchema(LocalDate.class).getSchemaNode().get("type").asText();
+    }
+
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS));
+        LocalDate[] dates = { LocalDate.of(2014, Month.FEBRUARY, 15), LocalDate.of(10000, Month.JANUARY, 1) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(dates);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"20140215\",\"+10000-01-01\"]", value);
+        assertArrayEquals("The values should read back.", dates, this.mapper.readValue(value, LocalDate[].class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -93,6 +149,21 @@ public class TestLocalDateSerialization
         assertEquals("The value is not correct.", '"' + date.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString03() throws Exception
+    {
+        LocalDate[] dates = new LocalDate[] {
+                LocalDate.of(-5, 1, 2), LocalDate.of(-12345, 11, 30), LocalDate.of(123456, 12, 31)
+        };
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(dates);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"-0005-01-02\",\"-12345-11-30\",\"+123456-12-31\"]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -129,6 +200,25 @@ public class TestLocalDateSerialization
         assertEquals("The value is not correct.", date, value);
     }
 
+    @Test
+    public void testDeserializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDate date = LocalDate.of(2014, Month.FEBRUARY, 15);
+
+        LocalDate value = mapper.readValue("16116", LocalDate.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampNotEnabled01() throws Exception
+    {
+        this.mapper.readValue("16116", LocalDate.class);
+    }
+
     @Test
     public void testDeserializationAsString01() throws Exception
     {
@@ -151,6 +241,69 @@ public class TestLocalDateSerialization
         assertEquals("The value is not correct.", date, value);
     }
 
+    @Test
+    public void testDeserializationAsString03() throws Exception
+    {
+        LocalDate date = LocalDate.of(-2013, Month.AUGUST, 21);
+
+        LocalDate value = this.mapper.readValue('"' + date.toString() + '"', LocalDate.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsString04() throws Exception
+    {
+        LocalDate date = LocalDate.of(2000, Month.FEBRUARY, 29);
+
+        LocalDate value = this.mapper.readValue("\"  2000-02-29 \"", LocalDate.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringInvalidDate() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"1900-02-29\"", LocalDate.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void testDeserializationAsString06() throws Exception
+    {
+        LocalDate[] value = this.mapper.readValue("[\"2014-02-15\",[2014,2,15]]", LocalDate[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", value[0], value[1]);
+        assertNotSame("The values should not be shared.", value[0], value[1]);
+    }
+
+    @Test
+    public void testDeserializationAsString07() throws Exception
+    {
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.CANONICAL_LOCAL_DATES));
+        LocalDate[] value = this.mapper.readValue(
+                "[\"2014-02-15\",[2014,2,15],\"2014-02-15\",\"0002-03-04\",\"0002-03-04\",null]", LocalDate[].class
+        );
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", LocalDate.of(2014, 2, 15), value[0]);
+        assertSame("The values should be shared.", value[0], value[1]);
+        assertSame("The values should be shared.", value[0], value[2]);
+        assertEquals("The value is not correct.", LocalDate.of(2, 3, 4), value[3]);
+        assertNotSame("The values should not be shared outside the window.", value[3], value[4]);
+        assertNull("The value should be null.", value[5]);
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -17,12 +17,14 @@
 package com.fasterxml.jackson.datatype.threetenbp;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.temporal.Temporal;
@@ -122,6 +124,97 @@ public class TestLocalDateTimeSerialization
         assertEquals("The value is not correct.", "[2005,11,5,22,31,5,422]", value);
     }
 
+    @Test
+    public void testSerializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDateTime time = LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10, 0, 183917322);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "1392459000183917322", value);
+    }
+
+    @Test
+    public void testSchemaAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        assertEquals("The schema type is not correct.", "number", schemaType(mapper));
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        assertEquals("The schema type is not correct.", "string", schemaType(mapper));
+    }
+
+    @Test
+    public void testSchemaAsTimestamp01() throws Exception
+    {
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        assertEquals("The schema type is not correct.", "array", schemaType(this.mapper));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static String schemaType(ObjectMapper mapper) throws Exception
+    {
+        return mapper.generateJsonSchema(LocalDateTime.class).getSchemaNode().get("type").asText();
+    }
+
+    @Test
+    public void testSerializationAsPackedTimestamp02() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDateTime time = LocalDateTime.of(1000, Month.JANUARY, 1, 0, 0);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "-30610224000.000000000", value);
+    }
+
+    @Test
+    public void testSerializationAsFixedWidthString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.FIXED_WIDTH_ISO_STRINGS));
+        LocalDateTime[] dateTimes = {
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10),
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10, 5, 12)
+        };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(dateTimes);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"2014-02-15T10:10:00.000000000\",\"2014-02-15T10:10:05.000000012\"]", value);
+        assertArrayEquals("The values should read back.", dateTimes, mapper.readValue(value, LocalDateTime[].class));
+    }
+
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS));
+        LocalDateTime[] dateTimes = {
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10),
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10, 5, 12000000)
+        };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(dateTimes);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"20140215T101000\",\"20140215T101005.012\"]", value);
+        assertArrayEquals("The values should read back.", dateTimes,
+                this.mapper.readValue(value, LocalDateTime[].class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -158,6 +251,31 @@ public class TestLocalDateTimeSerialization
         assertEquals("The value is not correct.", '"' + time.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString04() throws Exception
+    {
+        LocalDateTime time = LocalDateTime.of(-12, 3, 4, 5, 6, 0, 700_000);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"-0012-03-04T05:06:00.000700\"", value);
+    }
+
+    @Test
+    public void testSerializationAsString05() throws Exception
+    {
+        LocalDateTime time = LocalDateTime.of(2013, 8, 21, 9, 22, 0, 57);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        byte[] value = this.mapper.writeValueAsBytes(new LocalDateTime[] { time, time });
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"2013-08-21T09:22:00.000000057\",\"2013-08-21T09:22:00.000000057\"]", new String(value, "UTF-8"));
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -284,6 +402,70 @@ public class TestLocalDateTimeSerialization
         assertEquals("The value is not correct.", time, value);
     }
 
+    @Test
+    public void testDeserializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDateTime time = LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10, 0, 183917322);
+
+        LocalDateTime value = mapper.readValue("1392459000183917322", LocalDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsPackedTimestamp02() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDateTime time = LocalDateTime.of(1969, Month.DECEMBER, 31, 23, 59, 59, 900000000);
+
+        LocalDateTime value = mapper.readValue("-100000000", LocalDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsPackedTimestamp03() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDateTime time = LocalDateTime.of(1000, Month.JANUARY, 1, 0, 0);
+
+        LocalDateTime value = mapper.readValue("-30610224000.000000000", LocalDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsPackedTimestamp04() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalDateTime time = LocalDateTime.of(1969, Month.DECEMBER, 31, 23, 59, 59, 500000000);
+
+        LocalDateTime value = mapper.readValue("-0.500000000", LocalDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampNotEnabled01() throws Exception
+    {
+        this.mapper.readValue("1392459000183917322", LocalDateTime.class);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampNotEnabled02() throws Exception
+    {
+        this.mapper.readValue("-0.500000000", LocalDateTime.class);
+    }
+
     @Test
     public void testDeserializationAsString01() throws Exception
     {
@@ -317,6 +499,71 @@ public class TestLocalDateTimeSerialization
         assertEquals("The value is not correct.", time, value);
     }
 
+    @Test
+    public void testDeserializationAsString04() throws Exception
+    {
+        LocalDateTime time = LocalDateTime.of(2000, Month.FEBRUARY, 29, 23, 59, 0, 999_000);
+
+        LocalDateTime value = this.mapper.readValue("\"2000-02-29T23:59:00.000999\"", LocalDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsString05() throws Exception
+    {
+        LocalDateTime time = LocalDateTime.of(12345, Month.JANUARY, 1, 0, 0);
+
+        LocalDateTime value = this.mapper.readValue("\"+12345-01-01T00:00\"", LocalDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsString06() throws Exception
+    {
+        LocalDateTime[] value = this.mapper.readValue("[\"2014-02-15T10:10\",\"2014-02-15T23:59:59.999\"," +
+                "\"2014-02-16T00:00\",\"2014-02-15T01:00:01\",\"2014-02-15T01:00:02\"]", LocalDateTime[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertArrayEquals("The value is not correct.", new LocalDateTime[] {
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 10, 10),
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 23, 59, 59, 999_000_000),
+                LocalDateTime.of(2014, Month.FEBRUARY, 16, 0, 0),
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 1, 0, 1),
+                LocalDateTime.of(2014, Month.FEBRUARY, 15, 1, 0, 2)
+        }, value);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringInvalidDateTime() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"2014-13-01T10:15\"", LocalDateTime.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringInvalidDateTime02() throws Throwable
+    {
+        this.mapper.readValue("\"2014-02-15T10:15\"", LocalDateTime.class);
+        try
+        {
+            this.mapper.readValue("\"2014-02-30T10:15\"", LocalDateTime.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -17,12 +17,14 @@
 package com.fasterxml.jackson.datatype.threetenbp;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.temporal.Temporal;
 
@@ -121,6 +123,77 @@ public class TestLocalTimeSerialization
         assertEquals("The value is not correct.", "[22,31,5,422]", value);
     }
 
+    @Test
+    public void testSerializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalTime time = LocalTime.of(22, 31, 5, 829837000);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "81065829837000", value);
+    }
+
+    @Test
+    public void testSchemaAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        assertEquals("The schema type is not correct.", "integer", schemaType(mapper));
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        assertEquals("The schema type is not correct.", "string", schemaType(mapper));
+    }
+
+    @Test
+    public void testSchemaAsTimestamp01() throws Exception
+    {
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        assertEquals("The schema type is not correct.", "array", schemaType(this.mapper));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static String schemaType(ObjectMapper mapper) throws Exception
+    {
+        return mapper.generateJsonSchema(LocalTime.class).getSchemaNode().get("type").asText();
+    }
+
+    @Test
+    public void testSerializationAsFixedWidthString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.FIXED_WIDTH_ISO_STRINGS));
+        LocalTime[] times = { LocalTime.of(9, 0), LocalTime.of(22, 31, 5, 829000000), LocalTime.of(0, 0, 0, 1) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(times);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"09:00:00.000000000\",\"22:31:05.829000000\",\"00:00:00.000000001\"]", value);
+        assertArrayEquals("The values should read back.", times, mapper.readValue(value, LocalTime[].class));
+    }
+
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ThreetenbpModule()
+                .enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS)
+                .enable(ThreetenbpModule.Feature.FIXED_WIDTH_ISO_STRINGS));
+        LocalTime[] times = { LocalTime.of(9, 0), LocalTime.of(22, 31, 5, 829000000) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(times);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"090000.000000000\",\"223105.829000000\"]", value);
+        assertArrayEquals("The values should read back.", times, this.mapper.readValue(value, LocalTime[].class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -157,6 +230,38 @@ public class TestLocalTimeSerialization
         assertEquals("The value is not correct.", '"' + time.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString04() throws Exception
+    {
+        LocalTime[] times = new LocalTime[] {
+                LocalTime.of(0, 0), LocalTime.of(1, 2, 0, 10_000_000), LocalTime.of(3, 4, 5, 6_000), LocalTime.of(7, 8, 9, 10)
+        };
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(times);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"00:00\",\"01:02:00.010\",\"03:04:05.000006\",\"07:08:09.000000010\"]", value);
+    }
+
+    @Test
+    public void testSerializationWithChangingFeatures() throws Exception
+    {
+        LocalTime time = LocalTime.of(22, 31, 5, 829837000);
+
+        String value = this.mapper.writeValueAsString(new LocalTime[] { time });
+        assertEquals("The value is not correct.", "[[22,31,5,829837000]]", value);
+
+        value = this.mapper.writer().without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .writeValueAsString(new LocalTime[] { time });
+        assertEquals("The value is not correct.", "[[22,31,5,829]]", value);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        value = this.mapper.writeValueAsString(new LocalTime[] { time });
+        assertEquals("The value is not correct.", "[\"22:31:05.829837\"]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -281,6 +386,25 @@ public class TestLocalTimeSerialization
         assertEquals("The value is not correct.", time, value);
     }
 
+    @Test
+    public void testDeserializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        LocalTime time = LocalTime.of(22, 31, 5, 829837000);
+
+        LocalTime value = mapper.readValue("81065829837000", LocalTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampNotEnabled01() throws Exception
+    {
+        this.mapper.readValue("81065829837000", LocalTime.class);
+    }
+
     @Test
     public void testDeserializationAsString01() throws Exception
     {
@@ -314,6 +438,41 @@ public class TestLocalTimeSerialization
         assertEquals("The value is not correct.", time, value);
     }
 
+    @Test
+    public void testDeserializationAsString04() throws Exception
+    {
+        LocalTime time = LocalTime.of(23, 59, 59, 1);
+
+        LocalTime value = this.mapper.readValue("\"23:59:59.000000001\"", LocalTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsString05() throws Exception
+    {
+        LocalTime time = LocalTime.of(0, 0, 5, 120_000_000);
+
+        LocalTime value = this.mapper.readValue("\"00:00:05.12\"", LocalTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringInvalidTime() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"24:00\"", LocalTime.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -16,11 +16,13 @@
 
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Month;
 import org.threeten.bp.MonthDay;
 import org.threeten.bp.temporal.TemporalAccessor;
@@ -66,6 +68,17 @@ public class TestMonthDaySerialization
         assertEquals("The value is not correct.", "\"--08-21\"", value);
     }
 
+    @Test
+    public void testSerialization03() throws Exception
+    {
+        MonthDay[] monthDays = new MonthDay[] { MonthDay.of(Month.FEBRUARY, 29), MonthDay.of(Month.DECEMBER, 31) };
+
+        String value = this.mapper.writeValueAsString(monthDays);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"--02-29\",\"--12-31\"]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -100,6 +113,29 @@ public class TestMonthDaySerialization
         assertEquals("The value is not correct.", monthDay, value);
     }
 
+    @Test
+    public void testDeserialization03() throws Exception
+    {
+        MonthDay[] value = this.mapper.readValue("[\"--02-29\",\"--02-29\"]", MonthDay[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", MonthDay.of(Month.FEBRUARY, 29), value[0]);
+        assertSame("The month-days should be shared.", value[0], value[1]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserialization04() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"--02-30\"", MonthDay.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -17,13 +17,16 @@
 package com.fasterxml.jackson.datatype.threetenbp;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.OffsetDateTime;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
@@ -171,6 +174,18 @@ public class TestOffsetDateTimeSerialization
         assertEquals("The value is not correct.", '"' + date.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString04() throws Exception
+    {
+        OffsetDateTime date = OffsetDateTime.of(-12345, 6, 7, 8, 9, 10, 11_000_000, ZoneOffset.ofHoursMinutesSeconds(-4, -23, -8));
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"-12345-06-07T08:09:10.011-04:23:08\"", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -462,6 +477,53 @@ public class TestOffsetDateTimeSerialization
         assertEquals("The time zone is not correct.", getDefaultOffset(date), value.getOffset());
     }
 
+    @Test
+    public void testDeserializationAsInt01AcrossTransitions() throws Exception
+    {
+        // Chicago switches to daylight time at 2014-03-09T08:00Z and back at 2014-11-02T07:00Z
+        long[] milliseconds = new long[] {
+                1394348399000L, 1394348400000L, 1394344800000L, 1394352000000L, 1414911599999L, 1414911600000L, 0L
+        };
+        StringBuilder json = new StringBuilder("[");
+        for(long millisecond : milliseconds)
+            json.append(json.length() > 1 ? "," : "").append(millisecond);
+
+        this.mapper.configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+        this.mapper.setTimeZone(TimeZone.getTimeZone("America/Chicago"));
+        OffsetDateTime[] value = this.mapper.readValue(json.append(']').toString(), OffsetDateTime[].class);
+
+        assertNotNull("The value should not be null.", value);
+        for(int i = 0; i < milliseconds.length; i++)
+        {
+            OffsetDateTime date = OffsetDateTime.ofInstant(Instant.ofEpochMilli(milliseconds[i]), Z1);
+            assertEquals("The value is not correct.", date, value[i]);
+        }
+    }
+
+    @Test
+    public void testDeserializationAsString01AcrossTransitions() throws Exception
+    {
+        String[] dates = new String[] {
+                "2014-03-09T07:59:59Z", "2014-03-09T08:00:00Z", "2014-11-02T05:59:59Z", "2014-11-02T06:00:00Z",
+                "2014-11-02T06:59:59Z", "2014-11-02T07:00:00Z", "2014-11-02T07:59:59Z", "2014-11-02T08:00:00Z"
+        };
+        StringBuilder json = new StringBuilder("[");
+        for(String date : dates)
+            json.append(json.length() > 1 ? "," : "").append('"').append(date).append('"');
+
+        this.mapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, true);
+        this.mapper.setTimeZone(TimeZone.getTimeZone("America/Chicago"));
+        OffsetDateTime[] value = this.mapper.readValue(json.append(']').toString(), OffsetDateTime[].class);
+
+        assertNotNull("The value should not be null.", value);
+        for(int i = 0; i < dates.length; i++)
+        {
+            OffsetDateTime date = OffsetDateTime.parse(dates[i]);
+            date = date.withOffsetSameInstant(Z1.getRules().getOffset(date.toLocalDateTime()));
+            assertEquals("The value is not correct.", date, value[i]);
+        }
+    }
+
     @Test
     public void testDeserializationAsString01WithoutTimeZone() throws Exception
     {
@@ -585,6 +647,32 @@ public class TestOffsetDateTimeSerialization
         assertEquals("The time zone is not correct.", getOffset(value, Z3), value.getOffset());
     }
 
+    @Test
+    public void testDeserializationAsString04WithTimeZoneTurnedOff() throws Exception
+    {
+        OffsetDateTime date = OffsetDateTime.of(LocalDateTime.of(2014, 2, 15, 10, 10, 0, 100_000_000),
+                ZoneOffset.ofHoursMinutesSeconds(1, 2, 3));
+
+        this.mapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
+        OffsetDateTime value = this.mapper.readValue("\"2014-02-15T10:10:00.1+01:02:03\"", OffsetDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringWithRegion() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"2014-01-01T10:15+01:00[Europe/Paris]\"", OffsetDateTime.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01WithoutTimeZone() throws Exception
     {
@@ -17,12 +17,14 @@
 package com.fasterxml.jackson.datatype.threetenbp;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.OffsetTime;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.temporal.Temporal;
@@ -122,6 +124,54 @@ public class TestOffsetTimeSerialization
         assertEquals("The value is not correct.", "[22,31,5,422,\"+11:00\"]", value);
     }
 
+    @Test
+    public void testSerializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        OffsetTime time = OffsetTime.of(22, 31, 5, 829837000, ZoneOffset.ofHours(1));
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[81065829837000,3600]", value);
+    }
+
+    @Test
+    public void testSerializationAsFixedWidthString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.FIXED_WIDTH_ISO_STRINGS));
+        OffsetTime time = OffsetTime.of(15, 43, 0, 0, ZoneOffset.of("+0300"));
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"15:43:00.000000000+03:00\"", value);
+        assertEquals("The value should read back.", time, mapper.readValue(value, OffsetTime.class));
+    }
+
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS));
+        OffsetTime[] times = {
+                OffsetTime.of(15, 43, 0, 0, ZoneOffset.of("+0300")),
+                OffsetTime.of(22, 31, 5, 829000000, ZoneOffset.UTC),
+                OffsetTime.of(22, 31, 0, 0, ZoneOffset.ofHoursMinutesSeconds(-4, -23, -8))
+        };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(times);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"154300+0300\",\"223105.829Z\",\"223100-042308\"]", value);
+        assertArrayEquals("The values should read back.", times, this.mapper.readValue(value, OffsetTime[].class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -158,6 +208,37 @@ public class TestOffsetTimeSerialization
         assertEquals("The value is not correct.", '"' + time.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString04() throws Exception
+    {
+        OffsetTime time = OffsetTime.of(22, 31, 0, 0, ZoneOffset.ofHoursMinutesSeconds(-4, -23, -8));
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(time);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"22:31-04:23:08\"", value);
+    }
+
+    @Test
+    public void testSerializationWithChangingFeatures() throws Exception
+    {
+        OffsetTime time = OffsetTime.of(22, 31, 5, 829837000, ZoneOffset.ofHours(2));
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(new OffsetTime[] { time });
+        assertEquals("The value is not correct.", "[\"22:31:05.829837+02:00\"]", value);
+
+        value = this.mapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(new OffsetTime[] { time });
+        assertEquals("The value is not correct.", "[[22,31,5,829837000,\"+02:00\"]]", value);
+
+        value = this.mapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .writeValueAsString(new OffsetTime[] { time });
+        assertEquals("The value is not correct.", "[[22,31,5,829,\"+02:00\"]]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -284,6 +365,65 @@ public class TestOffsetTimeSerialization
         assertEquals("The value is not correct.", time, value);
     }
 
+    @Test
+    public void testDeserializationAsTimestamp05() throws Exception
+    {
+        OffsetTime time = OffsetTime.of(22, 31, 5, 0, ZoneOffset.of("+0530"));
+
+        OffsetTime value = this.mapper.readValue("[22,31,5,\"+0530\"]", OffsetTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsTimestamp06() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("[22,31,5,\"+25:00\"]", OffsetTime.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void testDeserializationAsPackedTimestamp01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        OffsetTime time = OffsetTime.of(22, 31, 5, 829837000, ZoneOffset.ofHours(-5));
+
+        OffsetTime value = mapper.readValue("[81065829837000,-18000]", OffsetTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampOutOfRange01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        mapper.readValue("[86400000000000,0]", OffsetTime.class);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampOutOfRange02() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.PACKED_LOCAL_TIMESTAMPS));
+        mapper.readValue("[81065829837000,64801]", OffsetTime.class);
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testDeserializationAsPackedTimestampNotEnabled01() throws Exception
+    {
+        this.mapper.readValue("[10,15]", OffsetTime.class);
+    }
+
     @Test
     public void testDeserializationAsString01() throws Exception
     {
@@ -317,6 +457,28 @@ public class TestOffsetTimeSerialization
         assertEquals("The value is not correct.", time, value);
     }
 
+    @Test
+    public void testDeserializationAsString04() throws Exception
+    {
+        OffsetTime time = OffsetTime.of(22, 31, 5, 829837, ZoneOffset.ofHoursMinutesSeconds(-1, -30, -15));
+
+        OffsetTime value = this.mapper.readValue("\" 22:31:05.000829837-01:30:15\\t\"", OffsetTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
+    @Test
+    public void testDeserializationAsString05() throws Exception
+    {
+        OffsetTime time = OffsetTime.of(9, 0, 0, 0, ZoneOffset.UTC);
+
+        OffsetTime value = this.mapper.readValue("\"09:00Z\"", OffsetTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", time, value);
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -0,0 +1,218 @@
+package com.fasterxml.jackson.datatype.threetenbp;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.threetenbp.ser.RenderCache;
+import com.fasterxml.jackson.datatype.threetenbp.ser.RenderCachingSerializer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.threeten.bp.Duration;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.Temporal;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class TestRenderCache
+{
+    private RenderCache cache;
+
+    private ObjectMapper mapper;
+
+    @Before
+    public void setUp()
+    {
+        this.cache = new RenderCache(64);
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(new ThreetenbpModule().setRenderCache(this.cache));
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testCapacity()
+    {
+        assertEquals("The capacity is not correct.", 1, new RenderCache(1).getCapacity());
+        assertEquals("The capacity is not correct.", 64, new RenderCache(64).getCapacity());
+        assertEquals("The capacity is not correct.", 128, new RenderCache(65).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityInvalid()
+    {
+        new RenderCache(0);
+    }
+
+    @Test
+    public void testSerializationAsString01() throws Exception
+    {
+        LocalDate date = LocalDate.of(2014, 2, 15);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(new LocalDate[] { date, date, LocalDate.of(2014, 2, 15) });
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"2014-02-15\",\"2014-02-15\",\"2014-02-15\"]", value);
+        assertEquals("The hits are not correct.", 2, this.cache.getHits());
+        assertEquals("The misses are not correct.", 1, this.cache.getMisses());
+    }
+
+    @Test
+    public void testSerializationAsString02() throws Exception
+    {
+        Object[] values = {
+                Duration.ofSeconds(90L), OffsetDateTime.of(2014, 2, 15, 10, 10, 0, 0, ZoneOffset.ofHours(1)),
+                Duration.ofSeconds(90L), OffsetDateTime.of(2014, 2, 15, 10, 10, 0, 0, ZoneOffset.ofHours(2))
+        };
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(values);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "[\"PT1M30S\",\"2014-02-15T10:10+01:00\",\"PT1M30S\",\"2014-02-15T10:10+02:00\"]", value);
+        assertEquals("The hits are not correct.", 1, this.cache.getHits());
+        assertEquals("The misses are not correct.", 3, this.cache.getMisses());
+    }
+
+    @Test
+    public void testSerializationAsStringConcurrent01() throws Exception
+    {
+        final LocalDate[] dates = new LocalDate[1000];
+        for(int i = 0; i < dates.length; i++)
+            dates[i] = LocalDate.of(2014, 2, 1 + i % 2);
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        Thread[] threads = new Thread[8];
+        for(int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread() {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        TestRenderCache.this.mapper.writeValueAsString(dates);
+                    }
+                    catch(IOException e)
+                    {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for(Thread thread : threads)
+            thread.join();
+
+        assertEquals("Every lookup should have been counted.", threads.length * dates.length,
+                this.cache.getHits() + this.cache.getMisses());
+    }
+
+    @Test
+    public void testSerializationAsFixedWidthString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ThreetenbpModule().setRenderCache(this.cache)
+                .enable(ThreetenbpModule.Feature.FIXED_WIDTH_ISO_STRINGS));
+        Object[] values = { LocalDate.of(2014, 2, 15), OffsetDateTime.of(2014, 2, 15, 10, 10, 0, 0, ZoneOffset.UTC) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(values);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"2014-02-15\",\"2014-02-15T10:10:00.000000000Z\"]", value);
+        assertEquals("Only the date should have been cached.", 1, this.cache.getMisses());
+    }
+
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ThreetenbpModule().setRenderCache(this.cache)
+                .enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS));
+        Object[] values = { LocalDate.of(2014, 2, 15), Duration.ofSeconds(90L) };
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(values);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"20140215\",\"PT1M30S\"]", value);
+        assertEquals("Only the duration should have been cached.", 1, this.cache.getMisses());
+    }
+
+    @Test
+    public void testSerializationAsTimestamp01() throws Exception
+    {
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = this.mapper.writeValueAsString(LocalDate.of(2014, 2, 15));
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[2014,2,15]", value);
+        assertEquals("The cache should not have been used.", 0, this.cache.getHits() + this.cache.getMisses());
+    }
+
+    @Test
+    public void testSerializationWithTypeInfo01() throws Exception
+    {
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.mapper.addMixInAnnotations(Temporal.class, MockObjectConfiguration.class);
+        String value = this.mapper.writeValueAsString(LocalDate.of(2014, 2, 15));
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"" + LocalDate.class.getName() + "\",\"2014-02-15\"]", value);
+    }
+
+    @Test
+    public void testSerializationWithContextualDelegate01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(LocalDate.class,
+                new RenderCachingSerializer<LocalDate>(LocalDate.class, new ContextualDateSerializer(false),
+                        this.cache)));
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        String value = mapper.writeValueAsString(LocalDate.of(2014, 2, 15));
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The delegate should have been contextualized.", "\"contextual\"", value);
+    }
+
+    private static final class ContextualDateSerializer extends StdSerializer<LocalDate>
+            implements ContextualSerializer
+    {
+        private final boolean contextual;
+
+        ContextualDateSerializer(boolean contextual)
+        {
+            super(LocalDate.class);
+            this.contextual = contextual;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        {
+            return new ContextualDateSerializer(true);
+        }
+
+        @Override
+        public void serialize(LocalDate date, JsonGenerator generator, SerializerProvider provider)
+                throws IOException
+        {
+            generator.writeString(this.contextual ? "contextual" : "not contextual");
+        }
+    }
+}
@@ -16,11 +16,13 @@
 
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Month;
 import org.threeten.bp.YearMonth;
 import org.threeten.bp.temporal.Temporal;
@@ -66,6 +68,20 @@ public class TestYearMonthSerialization
         assertEquals("The value is not correct.", "\"2013-08\"", value);
     }
 
+    @Test
+    public void testSerialization03() throws Exception
+    {
+        YearMonth[] yearMonths = new YearMonth[] {
+                YearMonth.of(2013, Month.AUGUST), YearMonth.of(2013, Month.AUGUST), YearMonth.of(12345, Month.JANUARY),
+                YearMonth.of(-5, Month.JANUARY)
+        };
+
+        String value = this.mapper.writeValueAsString(yearMonths);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"2013-08\",\"2013-08\",\"12345-01\",\"-0005-01\"]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -100,6 +116,32 @@ public class TestYearMonthSerialization
         assertEquals("The value is not correct.", yearMonth, value);
     }
 
+    @Test
+    public void testDeserialization03() throws Exception
+    {
+        YearMonth[] value = this.mapper.readValue("[\"2013-08\",\"2013-08\",\"+12345-01\",\"0005-01\"]",
+                YearMonth[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", YearMonth.of(2013, Month.AUGUST), value[0]);
+        assertSame("The year-months should be shared.", value[0], value[1]);
+        assertEquals("The value is not correct.", YearMonth.of(12345, Month.JANUARY), value[2]);
+        assertEquals("The value is not correct.", YearMonth.of(5, Month.JANUARY), value[3]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserialization04() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"2013-13\"", YearMonth.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -95,6 +95,17 @@ public class TestYearSerialization
         assertEquals("The value is not correct.", Year.of(2013), value);
     }
 
+    @Test
+    public void testDeserialization03() throws Exception
+    {
+        Year[] value = this.mapper.readValue("[2013,2013,-5]", Year[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", Year.of(2013), value[0]);
+        assertSame("The years should be shared.", value[0], value[1]);
+        assertEquals("The value is not correct.", Year.of(-5), value[2]);
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
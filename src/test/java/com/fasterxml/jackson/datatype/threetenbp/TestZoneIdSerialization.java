@@ -16,12 +16,17 @@
 
 package com.fasterxml.jackson.datatype.threetenbp;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.ZoneId;
+import org.threeten.bp.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -64,6 +69,24 @@ public class TestZoneIdSerialization
         assertEquals("The value is not correct.", "\"America/Anchorage\"", value);
     }
 
+    @Test
+    public void testSerialization03() throws Exception
+    {
+        List<ZoneId> zones = new ArrayList<>();
+        for(String id : ZoneRulesProvider.getAvailableZoneIds())
+        {
+            zones.add(ZoneId.of(id));
+            zones.add(ZoneId.of(id));
+        }
+
+        String value = this.mapper.writeValueAsString(zones);
+
+        StringBuilder expected = new StringBuilder("[");
+        for(ZoneId zone : zones)
+            expected.append(expected.length() > 1 ? "," : "").append('"').append(zone).append('"');
+        assertEquals("The value is not correct.", expected.append(']').toString(), value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -94,6 +117,31 @@ public class TestZoneIdSerialization
         assertEquals("The value is not correct.", ZoneId.of("America/Anchorage"), value);
     }
 
+    @Test
+    public void testDeserialization03() throws Exception
+    {
+        ZoneId[] value = this.mapper.readValue("[\"America/Chicago\",\"Europe/Paris\",\"America/Chicago\"]",
+                ZoneId[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", ZoneId.of("America/Chicago"), value[0]);
+        assertEquals("The value is not correct.", ZoneId.of("Europe/Paris"), value[1]);
+        assertSame("The zones should be shared.", value[0], value[2]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserialization04() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"America/Nowhere\"", ZoneId.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo02() throws Exception
     {
@@ -76,6 +76,19 @@ public class TestZoneOffsetSerialization
         assertEquals("The value is not correct.", "\"-06:30\"", value);
     }
 
+    @Test
+    public void testSerialization04() throws Exception
+    {
+        ZoneOffset[] offsets = new ZoneOffset[] {
+                ZoneOffset.ofHoursMinutesSeconds(5, 43, 21), ZoneOffset.UTC, ZoneOffset.ofHoursMinutesSeconds(5, 43, 21)
+        };
+
+        String value = this.mapper.writeValueAsString(offsets);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "[\"+05:43:21\",\"Z\",\"+05:43:21\"]", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo03() throws Exception
     {
@@ -115,6 +128,16 @@ public class TestZoneOffsetSerialization
         assertEquals("The value is not correct.", ZoneOffset.of("-0630"), value);
     }
 
+    @Test
+    public void testDeserialization04() throws Exception
+    {
+        ZoneOffset[] value = this.mapper.readValue("[\"+05:43:21\",\"+05:43:21\"]", ZoneOffset[].class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", ZoneOffset.ofHoursMinutesSeconds(5, 43, 21), value[0]);
+        assertSame("The offsets should be shared.", value[0], value[1]);
+    }
+
     @Test
     public void testDeserializationWithTypeInfo03() throws Exception
     {
@@ -17,14 +17,19 @@
 package com.fasterxml.jackson.datatype.threetenbp;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
@@ -136,6 +141,22 @@ public class TestZonedDateTimeSerialization
         assertEquals("The value is not correct.", Long.toString(date.toInstant().toEpochMilli()), value);
     }
 
+    @Test
+    public void testSerializationAsBasicString01() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ThreetenbpModule().enable(ThreetenbpModule.Feature.BASIC_ISO_STRINGS));
+        ZonedDateTime date = ZonedDateTime.ofInstant(Instant.ofEpochSecond(123456789L, 183917322), Z2);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = mapper.writeValueAsString(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"19731129T113309.183917322-1000[America/Anchorage]\"", value);
+        this.mapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
+        assertEquals("The value should read back.", date, this.mapper.readValue(value, ZonedDateTime.class));
+    }
+
     @Test
     public void testSerializationAsString01() throws Exception
     {
@@ -172,6 +193,32 @@ public class TestZonedDateTimeSerialization
         assertEquals("The value is not correct.", '"' + date.toString() + '"', value);
     }
 
+    @Test
+    public void testSerializationAsString04() throws Exception
+    {
+        ZonedDateTime date = ZonedDateTime.of(LocalDateTime.of(2137, 9, 13, 8, 54, 0, 491611309),
+                ZoneId.of("America/Argentina/ComodRivadavia"));
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.",
+                "\"2137-09-13T08:54:00.491611309-03:00[America/Argentina/ComodRivadavia]\"", value);
+    }
+
+    @Test
+    public void testSerializationAsString05() throws Exception
+    {
+        ZonedDateTime date = ZonedDateTime.of(LocalDateTime.of(2014, 2, 15, 10, 10), ZoneOffset.ofHours(1));
+
+        this.mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        String value = this.mapper.writeValueAsString(date);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", "\"2014-02-15T10:10+01:00\"", value);
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
@@ -241,6 +288,31 @@ public class TestZonedDateTimeSerialization
         assertEquals("The time zone is not correct.", ZoneId.systemDefault(), value.getZone());
     }
 
+    @Test
+    public void testDeserializationAsFloat01WithTimeZones() throws Exception
+    {
+        ObjectReader reader = this.mapper.reader(ZonedDateTime.class);
+
+        for(ZoneId zone : new ZoneId[] { Z1, Z2, Z1, GMT, Z2 })
+        {
+            ZonedDateTime value = reader.with(TimeZone.getTimeZone(zone.getId())).readValue("0.000000000");
+
+            assertNotNull("The value should not be null.", value);
+            assertIsEqual(ZonedDateTime.ofInstant(Instant.ofEpochSecond(0L), zone), value);
+            assertEquals("The time zone is not correct.", zone, value.getZone());
+        }
+    }
+
+    @Test
+    public void testDeserializationAsFloat01WithUTCTimeZone() throws Exception
+    {
+        this.mapper.setTimeZone(TimeZone.getTimeZone("UTC"));
+        ZonedDateTime value = this.mapper.readValue("0.000000000", ZonedDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertSame("The time zone is not correct.", ZoneOffset.UTC, value.getZone());
+    }
+
     @Test
     public void testDeserializationAsFloat02WithoutTimeZone() throws Exception
     {
@@ -586,6 +658,56 @@ public class TestZonedDateTimeSerialization
         assertEquals("The time zone is not correct.", Z3, value.getZone());
     }
 
+    @Test
+    public void testDeserializationAsString04WithTimeZoneTurnedOff() throws Exception
+    {
+        ZonedDateTime date = ZonedDateTime.of(LocalDateTime.of(2014, 10, 26, 2, 30, 15, 120000), ZoneId.of("Europe/Paris"));
+
+        this.mapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
+        ZonedDateTime value = this.mapper.readValue("\"2014-10-26T02:30:15.00012+01:00[Europe/Paris]\"",
+                ZonedDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+    }
+
+    @Test
+    public void testDeserializationAsString05WithTimeZoneTurnedOff() throws Exception
+    {
+        ZonedDateTime date = ZonedDateTime.of(LocalDateTime.of(2014, 1, 1, 10, 15), ZoneOffset.ofHoursMinutes(-5, -30));
+
+        this.mapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
+        ZonedDateTime value = this.mapper.readValue("\"2014-01-01T10:15-05:30\"", ZonedDateTime.class);
+
+        assertNotNull("The value should not be null.", value);
+        assertEquals("The value is not correct.", date, value);
+        assertEquals("The time zone is not correct.", ZoneOffset.ofHoursMinutes(-5, -30), value.getZone());
+    }
+
+    @Test
+    public void testDeserializationAsString06WithTimeZoneTurnedOff() throws Exception
+    {
+        this.mapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
+        ZonedDateTime first = this.mapper.readValue("\"2014-01-01T10:15-06:00[America/Chicago]\"", ZonedDateTime.class);
+        ZonedDateTime second = this.mapper.readValue("\"2014-07-01T10:15-05:00[America/Chicago]\"", ZonedDateTime.class);
+
+        assertEquals("The time zone is not correct.", Z1, first.getZone());
+        assertSame("The time zone should be shared.", first.getZone(), second.getZone());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testDeserializationAsStringUnknownRegion() throws Throwable
+    {
+        try
+        {
+            this.mapper.readValue("\"2014-01-01T10:15+01:00[Europe/Nowhere]\"", ZonedDateTime.class);
+        }
+        catch(JsonMappingException e)
+        {
+            throw e.getCause();
+        }
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01WithoutTimeZone() throws Exception
     {